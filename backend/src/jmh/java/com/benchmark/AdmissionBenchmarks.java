@@ -0,0 +1,107 @@
+package com.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * End-to-end latency of one admission over HTTP: the five calls made by the
+ * admission wizard against the single /api/students/admission call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AdmissionBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class AdmissionState {
+        final AtomicInteger sequence = new AtomicInteger();
+        final HttpClient client = HttpClient.newHttpClient();
+        ObjectMapper mapper;
+        String baseUrl;
+        int roomId;
+
+        // A room without a capacity limit, so admissions never run out of seats.
+        @Setup(Level.Trial)
+        public void setUp(HostelBenchmarkState hostel) {
+            mapper = hostel.context.getBean(ObjectMapper.class);
+            baseUrl = hostel.baseUrl;
+            hostel.jdbc.update("""
+                INSERT INTO Rooms (room_no, room_type, floor, current_occupants, monthly_rent, status, capacity)
+                VALUES ('ADMIT', 'Triple', '0', 0, 3000, 'available', 0)
+                """);
+            roomId = hostel.jdbc.queryForObject("SELECT room_id FROM Rooms WHERE room_no = 'ADMIT'", Integer.class);
+        }
+
+        Map<String, String> form() {
+            int n = sequence.incrementAndGet();
+            Map<String, String> form = new LinkedHashMap<>();
+            form.put("collegeId", "ADM" + n);
+            form.put("name", "Admission " + n);
+            form.put("gender", "Female");
+            form.put("dob", "2005-04-01");
+            form.put("course", "BTech");
+            form.put("stream", "ECE");
+            form.put("year", "First");
+            form.put("email", "admission" + n + "@hostel.test");
+            form.put("contactNo", "9000000000");
+            form.put("address", "Address " + n);
+            form.put("guardianName", "Guardian " + n);
+            form.put("guardianContact", "8000000000");
+            return form;
+        }
+
+        String post(String path, Object body) throws IOException, InterruptedException {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 300) {
+                throw new IllegalStateException(path + " returned " + response.statusCode() + ": " + response.body());
+            }
+            return response.body();
+        }
+    }
+
+    @Benchmark
+    public String fiveCallWizard(AdmissionState state) throws Exception {
+        JsonNode student = state.mapper.readTree(state.post("/api/students/register/form", state.form()));
+        String studentId = student.get("studentId").asText();
+        state.post("/api/students/register/admissionfee", Map.of("studentId", studentId));
+        state.post("/api/students/register/roomid", Map.of("studentId", studentId, "roomId", String.valueOf(state.roomId)));
+        state.post("/api/rooms/updateRoomLogin", Map.of("roomId", state.roomId));
+        return state.post("/api/students/register/passwordsetting", Map.of("studentId", studentId, "password", "Secret123"));
+    }
+
+    @Benchmark
+    public String singleAdmission(AdmissionState state) throws Exception {
+        Map<String, String> form = state.form();
+        form.put("roomId", String.valueOf(state.roomId));
+        form.put("password", "Secret123");
+        return state.post("/api/students/admission", form);
+    }
+}
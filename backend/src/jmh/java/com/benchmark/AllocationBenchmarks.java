@@ -0,0 +1,112 @@
+package com.benchmark;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.dto.AllocationPreference;
+import com.dto.AllocationResult;
+import com.service.RoomAllocationService;
+
+/**
+ * Semester allocation of a fresh intake into empty rooms: planning alone
+ * (dry run) and planning plus the batched apply.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AllocationBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class IntakeState {
+
+        @Param("5000")
+        public int intake;
+
+        @Param("1500")
+        public int intakeRooms;
+
+        JdbcTemplate jdbc;
+        RoomAllocationService allocationService;
+        List<AllocationPreference> preferences;
+
+        // The seeded rooms are closed so only the intake rooms (2-5 beds) are used.
+        @Setup(Level.Trial)
+        public void setUp(HostelBenchmarkState hostel) {
+            jdbc = hostel.jdbc;
+            allocationService = hostel.context.getBean(RoomAllocationService.class);
+            jdbc.update("UPDATE Rooms SET status = 'occupied'");
+
+            String[] types = {"Single", "Double", "Triple", "Quad"};
+            List<Object[]> rooms = new ArrayList<>(intakeRooms);
+            for (int i = 1; i <= intakeRooms; i++) {
+                rooms.add(new Object[]{"AL" + i, types[i % 4], String.valueOf(i % 10), 3000, 2 + i % 4});
+            }
+            jdbc.batchUpdate("""
+                INSERT INTO Rooms (room_no, room_type, floor, current_occupants, monthly_rent, status, capacity)
+                VALUES (?, ?, ?, 0, ?, 'available', ?)
+                """, rooms);
+
+            String[] genders = {"Male", "Female"};
+            List<Object[]> students = new ArrayList<>(intake);
+            for (int i = 1; i <= intake; i++) {
+                students.add(new Object[]{"AC" + i, "Intake " + i, genders[i % 2],
+                        Date.valueOf(LocalDate.of(2006, 1, 1).plusDays(i % 365)), Date.valueOf(LocalDate.now()),
+                        "intake" + i + "@hostel.test", "7" + (100000000 + i), "Guardian " + i,
+                        "6" + (100000000 + i)});
+            }
+            jdbc.batchUpdate("""
+                INSERT INTO Student (college_id, name, gender, dob, admission_date, course, stream, year, email,
+                                     contact_no, address, guardian_name, guardian_contact, admission_fee, password)
+                VALUES (?, ?, ?, ?, ?, 'BTech', 'CSE', 'First', ?, ?, 'Address', ?, ?, true, 'pw')
+                """, students);
+
+            // A third ask for a floor, a quarter for a room type, and one in six
+            // names the student two places on (same gender) as a roommate.
+            List<Integer> ids = jdbc.queryForList(
+                    "SELECT student_id FROM Student WHERE college_id LIKE 'AC%' ORDER BY student_id", Integer.class);
+            preferences = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                int n = i + 1;
+                preferences.add(new AllocationPreference(ids.get(i),
+                        n % 3 == 0 ? String.valueOf(n % 10) : null,
+                        n % 4 == 0 ? types[(n / 4) % 4] : null,
+                        n % 6 == 0 && n + 2 <= intake ? List.of("AC" + (n + 2)) : List.of()));
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void reset() {
+            jdbc.update("UPDATE Student SET room_id = NULL WHERE college_id LIKE 'AC%'");
+            jdbc.update("UPDATE Rooms SET current_occupants = 0, status = 'available' WHERE room_no LIKE 'AL%'");
+        }
+    }
+
+    @Benchmark
+    public AllocationResult planDryRun(IntakeState state) {
+        return state.allocationService.allocate(state.preferences, true);
+    }
+
+    @Benchmark
+    public AllocationResult allocateAndApply(IntakeState state) {
+        return state.allocationService.allocate(state.preferences, false);
+    }
+}
@@ -0,0 +1,14 @@
+package com.benchmark;
+
+import org.openjdk.jmh.Main;
+
+/**
+ * Entry point used by the benchmark profile. Accepts the usual JMH command
+ * line, e.g. "FeesBenchmarks -f 1 -wi 2 -i 3 -p students=2000".
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,32 @@
+package com.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeesBenchmarks {
+
+    // As served to the dashboard: repeated calls inside the summary TTL share one computation.
+    @Benchmark
+    public Double collectionPercent(HostelBenchmarkState state) {
+        return state.feesService.getCollectionPercent();
+    }
+
+    // Every call recomputes the summary, i.e. the cost of a cold dashboard load.
+    @Benchmark
+    public Double collectionPercentUncached(HostelBenchmarkState state) {
+        state.feesService.invalidateSummary();
+        return state.feesService.getCollectionPercent();
+    }
+}
@@ -0,0 +1,211 @@
+package com.benchmark;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.HostelManagementApplication;
+import com.service.FeeAggregateService;
+import com.service.FeesService;
+import com.service.MessService;
+import com.service.MessSkipBitmapStore;
+import com.service.RoomsService;
+import com.service.StudentService;
+
+/**
+ * Boots the application against an in-memory H2 database and seeds it with
+ * hostel-sized data. Shared by every benchmark in a fork. The web server
+ * listens on a random local port (baseUrl) for benchmarks that go over HTTP.
+ *
+ * Volumes can be scaled down for a quick run, e.g.
+ * -p students=2000 -p rooms=200 -p skipsPerMeal=50
+ */
+@State(Scope.Benchmark)
+public class HostelBenchmarkState {
+
+    // First day of the seeded year of mess skips.
+    static final LocalDate SKIP_YEAR_START = LocalDate.of(2025, 1, 1);
+
+    private static final int BATCH = 5000;
+
+    @Param("20000")
+    public int students;
+
+    @Param("2000")
+    public int rooms;
+
+    @Param("12")
+    public int months;
+
+    // students skipping each meal on each day of the seeded year
+    @Param("500")
+    public int skipsPerMeal;
+
+    public ConfigurableApplicationContext context;
+    public String baseUrl;
+    public JdbcTemplate jdbc;
+    public StudentService studentService;
+    public FeesService feesService;
+    public RoomsService roomsService;
+    public MessService messService;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(HostelManagementApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=YEAR,DAY,DATE,VALUE",
+                        "server.port=0",
+                        "logging.level.root=WARN")
+                .run();
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        jdbc = context.getBean(JdbcTemplate.class);
+        studentService = context.getBean(StudentService.class);
+        feesService = context.getBean(FeesService.class);
+        roomsService = context.getBean(RoomsService.class);
+        messService = context.getBean(MessService.class);
+
+        long start = System.currentTimeMillis();
+        seedRooms();
+        seedStudents();
+        seedFees();
+        seedMessSkips();
+        context.getBean(FeeAggregateService.class).reconcile();
+        context.getBean(MessSkipBitmapStore.class).reconcile();
+        System.out.println("Seeded " + students + " students, " + rooms + " rooms, " + (students * months)
+                + " fees, " + (skipsPerMeal * 3 * 365) + " mess skips in "
+                + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public String email(int studentNo) {
+        return "student" + studentNo + "@hostel.test";
+    }
+
+    public String password(int studentNo) {
+        return "pw" + studentNo;
+    }
+
+    private void seedRooms() {
+        String[] types = {"Single", "Double", "Triple"};
+        List<Object[]> rows = new ArrayList<>(rooms);
+        for (int i = 1; i <= rooms; i++) {
+            rows.add(new Object[]{"R" + i, types[i % types.length], String.valueOf(i % 10),
+                    0, 3000 + (i % 5) * 500, "available", students / rooms + 2});
+        }
+        jdbc.batchUpdate("""
+            INSERT INTO Rooms (room_no, room_type, floor, current_occupants, monthly_rent, status, capacity)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """, rows);
+    }
+
+    private void seedStudents() {
+        String[] genders = {"Male", "Female"};
+        String[] courses = {"BTech", "MTech"};
+        String[] streams = {"CSE", "ECE", "Civil", "Mechanical", "Electrical"};
+        String[] years = {"First", "Second", "Third", "Fourth"};
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (int i = 1; i <= students; i++) {
+            rows.add(new Object[]{"C" + i, "Student " + i, genders[i % 2],
+                    Date.valueOf(LocalDate.of(2003, 1, 1).plusDays(i % 1500)),
+                    Date.valueOf(LocalDate.of(2024, 7, 1).plusDays(i % 90)),
+                    courses[i % 2], streams[i % 5], years[i % 4], email(i), "9" + (100000000 + i),
+                    "Address " + i, "Guardian " + i, "8" + (100000000 + i),
+                    (i % rooms) + 1, true, password(i), now});
+            if (rows.size() == BATCH) {
+                insertStudents(rows);
+                rows.clear();
+            }
+        }
+        insertStudents(rows);
+    }
+
+    private void insertStudents(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbc.batchUpdate("""
+            INSERT INTO Student (college_id, name, gender, dob, admission_date, course, stream, year, email,
+                                 contact_no, address, guardian_name, guardian_contact, room_id, admission_fee,
+                                 password, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """, rows);
+    }
+
+    private void seedFees() {
+        LocalDate firstMonth = LocalDate.now().withDayOfMonth(1).minusMonths(months - 1);
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (int i = 1; i <= students; i++) {
+            for (int m = 0; m < months; m++) {
+                LocalDate due = firstMonth.plusMonths(m);
+                // the latest month is mostly unpaid; older months mostly paid
+                boolean paid = m < months - 1 ? i % 10 != 0 : i % 3 == 0;
+                rows.add(new Object[]{i, 2000.0, Date.valueOf(due),
+                        paid ? Date.valueOf(due.plusDays(5)) : null,
+                        paid ? "PAID" : "PENDING", paid ? "UPI" : null});
+                if (rows.size() == BATCH) {
+                    insertFees(rows);
+                    rows.clear();
+                }
+            }
+        }
+        insertFees(rows);
+    }
+
+    private void insertFees(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbc.batchUpdate("""
+            INSERT INTO Fees (student_id, amount, due_date, paid_date, status, payment_mode)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """, rows);
+    }
+
+    private void seedMessSkips() {
+        String[] meals = {"Breakfast", "Lunch", "Dinner"};
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (int day = 0; day < 365; day++) {
+            Date date = Date.valueOf(SKIP_YEAR_START.plusDays(day));
+            for (int meal = 0; meal < meals.length; meal++) {
+                for (int k = 0; k < skipsPerMeal; k++) {
+                    int studentId = ((day * 7919 + meal * 104729 + k * 31) % students) + 1;
+                    rows.add(new Object[]{studentId, date, meals[meal], true});
+                    if (rows.size() == BATCH) {
+                        insertSkips(rows);
+                        rows.clear();
+                    }
+                }
+            }
+        }
+        insertSkips(rows);
+    }
+
+    private void insertSkips(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbc.batchUpdate("INSERT INTO MessSkipping (student_id, date, meal_type, skipped) VALUES (?, ?, ?, ?)", rows);
+    }
+}
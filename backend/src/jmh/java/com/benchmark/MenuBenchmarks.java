@@ -0,0 +1,89 @@
+package com.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dto.MessMenuEntry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.repository.MessMenuRepository;
+import com.service.MessMenuService;
+
+/**
+ * A student device opening the weekly menu over HTTP: revalidating a cached
+ * copy (304) and a first fetch (200), against reading and serializing the
+ * menu from the database per request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MenuBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class MenuState {
+        // plain HTTP/1.1, as the h2c upgrade attempt would dominate a 304
+        final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        URI menuUri;
+        String etag;
+        MessMenuRepository repository;
+        ObjectMapper mapper;
+
+        // A full week: three meals a day.
+        @Setup(Level.Trial)
+        public void setUp(HostelBenchmarkState hostel) throws Exception {
+            MessMenuService menuService = hostel.context.getBean(MessMenuService.class);
+            String[] days = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday"};
+            String[] meals = {"Breakfast", "Lunch", "Dinner"};
+            for (String day : days) {
+                for (String meal : meals) {
+                    menuService.insertMenu(new MessMenuEntry(null, day, meal, 45.0,
+                            meal + " items for " + day + ": rice, dal, two curries, curd, pickle, fruit"));
+                }
+            }
+            repository = hostel.context.getBean(MessMenuRepository.class);
+            mapper = hostel.context.getBean(ObjectMapper.class);
+            menuUri = URI.create(hostel.baseUrl + "/api/mess/menu");
+            etag = client.send(HttpRequest.newBuilder(menuUri).build(), HttpResponse.BodyHandlers.discarding())
+                    .headers().firstValue("ETag").orElseThrow();
+        }
+    }
+
+    @Benchmark
+    public int menuNotModified(MenuState state) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(state.menuUri).header("If-None-Match", state.etag).build();
+        return state.client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    public byte[] menuFull(MenuState state) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(state.menuUri).build();
+        return state.client.send(request, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+
+    // What a menu endpoint would cost per request without the read model (no HTTP).
+    @Benchmark
+    public byte[] menuFromDatabase(MenuState state) throws Exception {
+        List<MessMenuEntry> entries = new ArrayList<>();
+        state.repository.findAllMenus().forEach(m -> entries.add(
+                new MessMenuEntry(m.getMenuId(), m.getDay(), m.getMealType(), m.getPrice(), m.getItems())));
+        return state.mapper.writeValueAsBytes(entries);
+    }
+}
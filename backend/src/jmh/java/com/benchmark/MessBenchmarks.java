@@ -0,0 +1,110 @@
+package com.benchmark;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dto.MealForecast;
+import com.dto.MealSkipCounts;
+import com.dto.MessSkipBatchResult;
+import com.dto.MonthlySkipCounts;
+import com.service.MealForecastService;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessBenchmarks {
+
+    // Headcount for a random day of the seeded year: popcounts of the day's bitmaps.
+    @Benchmark
+    public MealSkipCounts skipCounts(HostelBenchmarkState state) {
+        return state.messService.getSkipCounts(randomDay());
+    }
+
+    // The same figures from a GROUP BY over MessSkipping.
+    @Benchmark
+    public List<Map<String, Object>> skipCountsFromDatabase(HostelBenchmarkState state) {
+        return state.jdbc.queryForList("""
+            SELECT meal_type, COUNT(*) AS skipped FROM MessSkipping
+            WHERE date = ? AND skipped = TRUE GROUP BY meal_type
+            """, Date.valueOf(randomDay()));
+    }
+
+    // Who skipped on a random day, with names and rooms for the mess page.
+    @Benchmark
+    public List<Object[]> skippedStudents(HostelBenchmarkState state) {
+        return state.messService.getSkippedStudentsByDate(randomDay());
+    }
+
+    // One student's month: a bit test per day and meal, against the row query.
+    @Benchmark
+    public MonthlySkipCounts monthlySkips(HostelBenchmarkState state) {
+        return state.messService.getMonthlySkips(randomStudent(state), randomMonth());
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> monthlySkipsFromDatabase(HostelBenchmarkState state) {
+        YearMonth month = randomMonth();
+        return state.jdbc.queryForList("""
+            SELECT meal_type, COUNT(*) AS skipped FROM MessSkipping
+            WHERE student_id = ? AND date BETWEEN ? AND ? AND skipped = TRUE GROUP BY meal_type
+            """, randomStudent(state), Date.valueOf(month.atDay(1)), Date.valueOf(month.atEndOfMonth()));
+    }
+
+    // The week-ahead forecast, read from the precomputed table.
+    @Benchmark
+    public List<MealForecast> forecastWeek(HostelBenchmarkState state) {
+        return state.context.getBean(MealForecastService.class).getForecasts(LocalDate.now().plusDays(1), 7);
+    }
+
+    // A week at home for one student: one batch against 21 single-meal updates.
+    // Alternates skip/un-skip so every call changes rows.
+    @Benchmark
+    public MessSkipBatchResult skipWeekBatch(HostelBenchmarkState state) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate from = randomDay().withDayOfMonth(1);
+        return state.messService.skipMeals(List.of(randomStudent(state)), from, from.plusDays(6),
+                null, random.nextBoolean());
+    }
+
+    @Benchmark
+    public int skipWeekPerMeal(HostelBenchmarkState state) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate from = randomDay().withDayOfMonth(1);
+        int studentId = randomStudent(state);
+        boolean skipped = random.nextBoolean();
+        int updated = 0;
+        for (int day = 0; day < 7; day++) {
+            for (String meal : new String[]{"Breakfast", "Lunch", "Dinner"}) {
+                updated += state.messService.updateSkippedByStudentId(skipped, studentId, meal, from.plusDays(day));
+            }
+        }
+        return updated;
+    }
+
+    private static int randomStudent(HostelBenchmarkState state) {
+        return ThreadLocalRandom.current().nextInt(1, state.students + 1);
+    }
+
+    private static YearMonth randomMonth() {
+        return YearMonth.from(HostelBenchmarkState.SKIP_YEAR_START).plusMonths(ThreadLocalRandom.current().nextInt(12));
+    }
+
+    private static LocalDate randomDay() {
+        return HostelBenchmarkState.SKIP_YEAR_START.plusDays(ThreadLocalRandom.current().nextInt(365));
+    }
+}
@@ -0,0 +1,51 @@
+package com.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dto.RoomReconciliationResult;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoomsBenchmarks {
+
+    @Benchmark
+    public int updateRoomLogin(HostelBenchmarkState state) {
+        int roomId = ThreadLocalRandom.current().nextInt(1, state.rooms + 1);
+        return state.roomsService.updateRoomLogin(roomId);
+    }
+
+    @State(Scope.Benchmark)
+    public static class DriftState {
+        HostelBenchmarkState hostel;
+
+        // Every room drifts: occupants zeroed and status reset.
+        @Setup(Level.Invocation)
+        public void drift(HostelBenchmarkState hostel) {
+            this.hostel = hostel;
+            hostel.jdbc.update("UPDATE Rooms SET current_occupants = 0, status = 'available'");
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public RoomReconciliationResult reconcileOccupancy(DriftState drift) {
+        return drift.hostel.roomsService.reconcileOccupancy();
+    }
+}
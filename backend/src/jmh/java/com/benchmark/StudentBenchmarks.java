@@ -0,0 +1,35 @@
+package com.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.repository.StudentRepository;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentBenchmarks {
+
+    @Benchmark
+    public StudentRepository.StudentCredentials login(HostelBenchmarkState state) {
+        int studentNo = ThreadLocalRandom.current().nextInt(1, state.students + 1);
+        return state.studentService.login(state.email(studentNo), state.password(studentNo));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Object[]> findStudentRoomFeeInfo(HostelBenchmarkState state) {
+        return state.studentService.findStudentRoomFeeInfo();
+    }
+}
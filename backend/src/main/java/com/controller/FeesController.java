@@ -1,20 +1,67 @@
 package com.controller;
 
 import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.multipart.MultipartFile;
+import com.dto.FeeAgingSnapshot;
+import com.dto.FeeGenerationResult;
+import com.dto.FeeReconciliationResult;
+import com.dto.FeeSummary;
+import com.dto.FeeTablePage;
+import com.dto.PaymentImportReport;
+import com.entity.Fees;
+import com.service.FeeAggregateService;
+import com.service.FeeAgingService;
 import com.service.FeesService;
+import com.service.PaymentImportService;
 
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @CrossOrigin(origins = "*") // Add this line
 @RestController
 @RequestMapping("api/fees")
 public class FeesController {
     private final FeesService feesService;
-    public FeesController(FeesService feesService) {
+    private final FeeAggregateService feeAggregateService;
+    private final PaymentImportService paymentImportService;
+    private final FeeAgingService feeAgingService;
+    public FeesController(FeesService feesService, FeeAggregateService feeAggregateService,
+                          PaymentImportService paymentImportService, FeeAgingService feeAgingService) {
         this.feesService = feesService;
+        this.feeAggregateService = feeAggregateService;
+        this.paymentImportService = paymentImportService;
+        this.feeAgingService = feeAgingService;
+    }
+
+    // Single round trip for every figure on the fees dashboard
+    @GetMapping("/admin/summary")
+    public FeeSummary getSummary() {
+        return feesService.getSummary();
+    }
+
+    @PostMapping("/admin/aggregates/reconcile")
+    public FeeReconciliationResult reconcileAggregates() {
+        FeeReconciliationResult result = feeAggregateService.reconcile();
+        feesService.invalidateSummary();
+        return result;
     }
 
     @GetMapping("/admin/collection-percent")
@@ -22,6 +69,11 @@ public class FeesController {
         return feesService.getCollectionPercent();    
     }
 
+    @PostMapping("/admin/generate-monthly")
+    public FeeGenerationResult generateMonthlyFees(@RequestParam(defaultValue = "2000.0") Double amount) {
+        return feesService.generateMonthlyFees(amount);
+    }
+
     @GetMapping("admin/pending-fees")
     public Double getPendingFees() {
         return feesService.getPendingFees();
@@ -37,6 +89,97 @@ public class FeesController {
         return feesService.getFeeInfo();
     }
 
+    // Keyset-paginated, filterable version of the table above
+    @GetMapping("admin/fees/table/page")
+    public FeeTablePage getFeeInfoPage(@RequestParam(required = false) Integer afterStudentId,
+                                       @RequestParam(required = false) Integer afterFeeId,
+                                       @RequestParam(required = false) String status,
+                                       @RequestParam(required = false) String roomNo,
+                                       @RequestParam(defaultValue = "50") int size) {
+        return feesService.getFeeInfoPage(afterStudentId, afterFeeId, status, roomNo, size);
+    }
+
+    // Full table export, streamed row by row as NDJSON (default) or CSV
+    @GetMapping("admin/fees/table/export")
+    public void exportFeeInfo(@RequestParam(defaultValue = "ndjson") String format,
+                              @RequestParam(required = false) String status,
+                              @RequestParam(required = false) String roomNo,
+                              HttpServletResponse response) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        response.setCharacterEncoding("UTF-8");
+        response.setContentType(csv ? "text/csv" : "application/x-ndjson");
+        if (csv) {
+            response.setHeader("Content-Disposition", "attachment; filename=\"fees.csv\"");
+        }
+        feesService.exportFeeInfo(status, roomNo, format, response.getWriter());
+    }
+
+    // Bank/UPI settlement CSV: reference,studentId,amount,paidDate,paymentMode
+    @PostMapping("/admin/payments/import")
+    public ResponseEntity<?> importPayments(@RequestParam("file") MultipartFile file) {
+        try {
+            PaymentImportReport report = paymentImportService.importPayments(
+                    new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8));
+            return ResponseEntity.ok(report);
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body("Could not read payment file: " + e.getMessage());
+        }
+    }
+
+    // ===== LEDGER =====
+    @GetMapping("/student/{studentId}/history")
+    public Page<Fees> getHistory(@PathVariable Integer studentId,
+                                 @RequestParam(defaultValue = "0") int page,
+                                 @RequestParam(defaultValue = "12") int size) {
+        return feesService.getHistory(studentId, page, size);
+    }
+
+    @GetMapping("admin/fees/due")
+    public ResponseEntity<?> getFeesDueBetween(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                               @RequestParam(defaultValue = "0") int page,
+                                               @RequestParam(defaultValue = "50") int size) {
+        try {
+            return ResponseEntity.ok(feesService.getFeesDueBetween(from, to, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("admin/fees/overdue")
+    public Page<Fees> getOverdue(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+                                 @RequestParam(defaultValue = "0") int page,
+                                 @RequestParam(defaultValue = "50") int size) {
+        return feesService.getOverdueAsOf(asOf == null ? LocalDate.now() : asOf, page, size);
+    }
+
+    @PutMapping("admin/fees/{feeId}")
+    public ResponseEntity<?> updateFee(@PathVariable Integer feeId, @RequestBody Fees fee) {
+        try {
+            int updated = feesService.updateFee(feeId, fee.getAmount(), fee.getDueDate(), fee.getPaidDate(),
+                    fee.getStatus(), fee.getPaymentMode());
+            if (updated > 0) {
+                return ResponseEntity.ok("Fee updated successfully.");
+            }
+            return ResponseEntity.status(404).body("Fee not found: " + feeId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(e.getMessage());
+        }
+    }
+
+    // ===== AGING REPORT =====
+    @GetMapping("admin/fees/aging")
+    public FeeAgingSnapshot getAging(@RequestParam(required = false) String floor,
+                                     @RequestParam(required = false) String course,
+                                     @RequestParam(required = false) String year) {
+        return feeAgingService.getSnapshot(floor, course, year);
+    }
+
+    @PostMapping("admin/fees/aging/refresh")
+    public FeeAgingSnapshot refreshAging(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        return feeAgingService.refresh(asOf == null ? LocalDate.now() : asOf);
+    }
+
     @GetMapping("admin/fees/pending-count")
     public Long countPendingFees() {
         return feesService.countPendingFees();
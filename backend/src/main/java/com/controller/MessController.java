@@ -1,16 +1,34 @@
 package com.controller;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+
+import com.dto.MessSkipBatch;
+import com.dto.MessMenuEntry;
+import com.service.MealForecastService;
+import com.service.MessMenuService;
+import com.service.MessMenuService.RenderedMenu;
+import com.service.MessSkipBitmapStore;
+import com.security.TokenService;
 import com.service.MessService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import java.util.Map;
 
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 
 
@@ -20,29 +38,61 @@ import org.springframework.web.bind.annotation.RequestBody;
 @RequestMapping("api/mess")
 public class MessController {
     private final MessService messService;
-    public MessController(MessService messService) {
+    private final MessSkipBitmapStore messSkipBitmapStore;
+    private final MealForecastService mealForecastService;
+    private final MessMenuService messMenuService;
+    public MessController(MessService messService, MessSkipBitmapStore messSkipBitmapStore,
+                          MealForecastService mealForecastService, MessMenuService messMenuService) {
         this.messService = messService;
+        this.messSkipBitmapStore = messSkipBitmapStore;
+        this.mealForecastService = mealForecastService;
+        this.messMenuService = messMenuService;
     }
 
-@GetMapping("/skipped-students")
-public List<Object[]> getSkippedStudentsByDate() {
-    return messService.getSkippedStudentsByDate();
-}
-
+    // [name, meal_type, floor, room_no, contact_no] for everyone who skipped a meal on the day (default today).
+    @GetMapping("/skipped-students")
+    public ResponseEntity<?> getSkippedStudentsByDate(@RequestParam(required = false) String date) {
+        try {
+            LocalDate day = date == null || date.isBlank() ? LocalDate.now() : LocalDate.parse(date);
+            return ResponseEntity.ok(messService.getSkippedStudentsByDate(day));
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.status(400).body("Invalid date: " + date);
+        }
+    }
 
-    @GetMapping("/countSkipped/Breakfast")
-    public Integer countSkippedBreakfast() {
-        return messService.countSkippedBreakfast();
+    // One student's skipped meals in a month (yyyy-MM, default this month).
+    @GetMapping("/students/{studentId}/skips")
+    public ResponseEntity<?> getMonthlySkips(@PathVariable Integer studentId,
+                                             @RequestParam(required = false) String month) {
+        try {
+            YearMonth period = month == null || month.isBlank() ? YearMonth.now() : YearMonth.parse(month);
+            return ResponseEntity.ok(messService.getMonthlySkips(studentId, period));
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.status(400).body("Invalid month: " + month);
+        }
     }
-    
-    @GetMapping("/countSkipped/Lunch")
-    public Integer countSkippedLunch() {
-        return messService.countSkippedLunch();
+
+
+    // Skipped meals per meal for one day (default today), without a database read.
+    @GetMapping("/countSkipped")
+    public ResponseEntity<?> countSkipped(@RequestParam(required = false) String date) {
+        try {
+            LocalDate day = date == null || date.isBlank() ? LocalDate.now() : LocalDate.parse(date);
+            return ResponseEntity.ok(messService.getSkipCounts(day));
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.status(400).body("Invalid date: " + date);
+        }
     }
 
-    @GetMapping("/countSkipped/Dinner")
-    public Integer countSkippedDinner() {
-        return messService.countSkippedDinner();
+    @GetMapping("/countSkipped/{mealType}")
+    public ResponseEntity<?> countSkippedMeal(@PathVariable String mealType,
+                                              @RequestParam(required = false) String date) {
+        try {
+            String day = date == null || date.isBlank() ? LocalDate.now().toString() : date;
+            return ResponseEntity.ok(messService.countSkippedByDateAndMealType(day, mealType));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.status(400).body(e.getMessage());
+        }
     }
 
   @PostMapping("/updateskipped")
@@ -51,8 +101,10 @@ public List<Object[]> getSkippedStudentsByDate() {
             Boolean skipped = (Boolean) request.get("skipped");
             Integer studentId = (Integer) request.get("studentId");
             String mealType = (String) request.get("mealType");
+            Object date = request.get("date");
 
-            int updateCount = messService.updateSkippedByStudentId(skipped, studentId,mealType);
+            int updateCount = messService.updateSkippedByStudentId(skipped, studentId, mealType,
+                    date == null ? null : LocalDate.parse(date.toString()));
 
             if (updateCount > 0) {
                 return ResponseEntity.ok("Skipped status updated successfully.");
@@ -63,6 +115,120 @@ public List<Object[]> getSkippedStudentsByDate() {
             return ResponseEntity.status(400).body("Invalid request data: " + e.getMessage());
         }
     }
-    
-    
+
+    // The caller's own skips over a date range, e.g. a week at home.
+    @PostMapping("/skips")
+    public ResponseEntity<?> skipMeals(@AuthenticationPrincipal TokenService.TokenClaims claims,
+                                       @RequestBody MessSkipBatch batch) {
+        try {
+            return ResponseEntity.ok(messService.skipMeals(List.of(claims.studentId()), batch.from(), batch.to(),
+                    batch.mealTypes(), batch.skipped() == null || batch.skipped()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(e.getMessage());
+        }
+    }
+
+    // Admin: every student on a floor (excursions) or an explicit list of students.
+    @PostMapping("/admin/skips")
+    public ResponseEntity<?> skipMealsForStudents(@RequestBody MessSkipBatch batch) {
+        try {
+            boolean skipped = batch.skipped() == null || batch.skipped();
+            if (batch.floor() != null && !batch.floor().isBlank()) {
+                return ResponseEntity.ok(messService.skipMealsForFloor(batch.floor(), batch.from(), batch.to(),
+                        batch.mealTypes(), skipped));
+            }
+            if (batch.studentIds() == null || batch.studentIds().isEmpty()) {
+                return ResponseEntity.status(400).body("Either floor or studentIds is required");
+            }
+            return ResponseEntity.ok(messService.skipMeals(batch.studentIds(), batch.from(), batch.to(),
+                    batch.mealTypes(), skipped));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(e.getMessage());
+        }
+    }
+
+    // Admin: rebuild the skip bitmaps from MessSkipping, e.g. after rows were edited by hand.
+    @PostMapping("/admin/bitmaps/reconcile")
+    public ResponseEntity<?> reconcileSkipBitmaps() {
+        try {
+            return ResponseEntity.ok(messSkipBitmapStore.reconcile());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(e.getMessage());
+        }
+    }
+
+    // Expected headcount per meal from the nightly forecast: days=1 for tomorrow
+    // (the default start), days=7 for the week ahead.
+    @GetMapping("/forecast")
+    public ResponseEntity<?> getForecast(@RequestParam(required = false) String from,
+                                         @RequestParam(defaultValue = "7") int days) {
+        try {
+            LocalDate start = from == null || from.isBlank() ? LocalDate.now().plusDays(1) : LocalDate.parse(from);
+            return ResponseEntity.ok(mealForecastService.getForecasts(start, days));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.status(400).body(e.getMessage());
+        }
+    }
+
+    // Admin: fold in finished days and rewrite the forecasts now instead of tonight.
+    @PostMapping("/admin/forecast/refresh")
+    public ResponseEntity<?> refreshForecast() {
+        return ResponseEntity.ok(mealForecastService.refresh());
+    }
+
+    // ===== MENU =====
+    // The weekly menu, Monday..Sunday and Breakfast..Dinner, from memory. A request
+    // whose If-None-Match or If-Modified-Since is current gets 304.
+    @GetMapping("/menu")
+    public ResponseEntity<?> getMenu(WebRequest request) {
+        return menuResponse(messMenuService.week(), request);
+    }
+
+    @GetMapping("/menu/{day}")
+    public ResponseEntity<?> getMenuForDay(@PathVariable String day, WebRequest request) {
+        try {
+            return menuResponse(messMenuService.day(day), request);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/admin/menu")
+    public ResponseEntity<?> insertMenu(@RequestBody MessMenuEntry menu) {
+        try {
+            messMenuService.insertMenu(menu);
+            return ResponseEntity.status(201).body("Menu added successfully.");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(e.getMessage());
+        }
+    }
+
+    @PutMapping("/admin/menu/{menuId}")
+    public ResponseEntity<?> updateMenu(@PathVariable Integer menuId, @RequestBody MessMenuEntry menu) {
+        try {
+            if (messMenuService.updateMenu(menuId, menu) > 0) {
+                return ResponseEntity.ok("Menu updated successfully.");
+            }
+            return ResponseEntity.status(404).body("Menu not found: " + menuId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(e.getMessage());
+        }
+    }
+
+    // no-cache: clients keep the copy but revalidate it on every open
+    private static ResponseEntity<?> menuResponse(RenderedMenu menu, WebRequest request) {
+        if (request.checkNotModified(menu.etag(), menu.lastModified().toEpochMilli())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(menu.etag())
+                .lastModified(menu.lastModified())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(menu.json());
+    }
 }
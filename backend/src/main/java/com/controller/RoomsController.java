@@ -1,16 +1,29 @@
 package com.controller;
 
+import com.dto.AllocationPreference;
+import com.dto.RoomAvailability;
+import com.dto.RoomReconciliationResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.service.RoomAllocationService;
+import com.service.RoomAvailabilityIndex;
+import com.service.RoomEventStream;
 import com.service.RoomsService;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController; 
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 
 
@@ -21,19 +34,44 @@ import org.springframework.web.bind.annotation.RestController;
 
 public class RoomsController {
     private final RoomsService roomsService;
+    private final RoomAllocationService roomAllocationService;
+    private final RoomEventStream roomEventStream;
+    private final ObjectMapper objectMapper;
 
-    public RoomsController(RoomsService roomsService) {
+    public RoomsController(RoomsService roomsService, RoomAllocationService roomAllocationService,
+                           RoomEventStream roomEventStream, ObjectMapper objectMapper) {
         this.roomsService = roomsService;
+        this.roomAllocationService = roomAllocationService;
+        this.roomEventStream = roomEventStream;
+        this.objectMapper = objectMapper;
     }
 
+    // Served from memory; an If-None-Match matching the current result gets 304.
     @GetMapping("/available")
-    public ResponseEntity<?> getAvailableRooms() {
+    public ResponseEntity<?> getAvailableRooms(@RequestParam(required = false) String floor,
+                                               @RequestParam(required = false) String type,
+                                               @RequestParam(required = false) BigDecimal maxRent,
+                                               @RequestParam(required = false) Integer minFreeSeats,
+                                               WebRequest request) {
         try {
-            return ResponseEntity.ok(roomsService.findAvailableRooms());
+            List<RoomAvailability> rooms = roomsService.findAvailableRooms(floor, type, maxRent, minFreeSeats);
+            byte[] json = objectMapper.writeValueAsBytes(rooms);
+            String etag = RoomAvailabilityIndex.etag(json);
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            return ResponseEntity.ok().eTag(etag).contentType(MediaType.APPLICATION_JSON).body(json);
         } catch (Exception e) {
             return ResponseEntity.status(500).body("Error retrieving available rooms: " + e.getMessage());
         }
     }
+    // Live changes to the list above: "rooms" events carry RoomAvailabilityDelta
+    // batches, "resync" means reload /available.
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter roomEvents() {
+        return roomEventStream.subscribe();
+    }
+
     @PostMapping("/updateRoomLogin")
     public ResponseEntity<?> updateRoomLogin(@RequestBody Map<String, Integer> body) {
         Integer roomId = body.get("roomId");
@@ -41,7 +79,26 @@ public class RoomsController {
         if (updateCount > 0) {
             return ResponseEntity.ok("Room login updated successfully.");
         } else {
-            return ResponseEntity.status(500).body("Failed to update room login.");
+            return ResponseEntity.status(409).body("Room is full or does not exist.");
+        }
+    }
+
+    @PostMapping("/admin/occupancy/reconcile")
+    public RoomReconciliationResult reconcileOccupancy() {
+        return roomsService.reconcileOccupancy();
+    }
+
+    // Semester allocation. An empty list ([]) places every unassigned student;
+    // dryRun=true returns the plan without writing it.
+    @PostMapping("/admin/allocate")
+    public ResponseEntity<?> allocateRooms(@RequestBody(required = false) List<AllocationPreference> preferences,
+                                           @RequestParam(defaultValue = "false") boolean dryRun) {
+        try {
+            return ResponseEntity.ok(roomAllocationService.allocate(preferences, dryRun));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Error allocating rooms: " + e.getMessage());
         }
     }
 
@@ -3,22 +3,39 @@
     
 package com.controller;
 
+import com.dto.AdmissionResult;
+import com.dto.LoginResponse;
+import com.dto.ProfileCacheMetrics;
+import com.dto.StudentImportReport;
+import com.dto.StudentProfile;
 import com.entity.Student;
+import com.repository.StudentQueryRepository;
+import com.repository.StudentRepository;
+import com.security.AdminAccount;
+import com.security.TokenService;
+import com.service.IdempotencyStore;
+import com.service.StudentImportService;
+import com.service.StudentProfileCache;
+import com.service.StudentSearchIndex;
 import com.service.StudentService;
 
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 
 
 import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 
 
@@ -27,54 +44,105 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/students")
 public class StudentController {
     
+    private static final String STUDENT_ROLE = "STUDENT";
+
     private final StudentService studentService;
+    private final TokenService tokenService;
+    private final StudentSearchIndex studentSearchIndex;
+    private final StudentImportService studentImportService;
+    private final StudentProfileCache studentProfileCache;
+    private final IdempotencyStore idempotencyStore;
+    private final AdminAccount adminAccount;
     
-    public StudentController(StudentService studentService) {
+    public StudentController(StudentService studentService, TokenService tokenService,
+                             StudentSearchIndex studentSearchIndex, StudentImportService studentImportService,
+                             StudentProfileCache studentProfileCache, IdempotencyStore idempotencyStore,
+                             AdminAccount adminAccount) {
         this.studentService = studentService;
+        this.tokenService = tokenService;
+        this.studentSearchIndex = studentSearchIndex;
+        this.studentImportService = studentImportService;
+        this.studentProfileCache = studentProfileCache;
+        this.idempotencyStore = idempotencyStore;
+        this.adminAccount = adminAccount;
     }
 
     //REGISTER ENDPOINT (POST)
     //register student form
     @PostMapping("/register/form")
-public ResponseEntity<?> registerStudent(@RequestBody Map<String, String> params) {
-    
-    System.out.println("Received parameters: " + params);
-    
-    try {
-        String collegeId = params.get("collegeId");
-        String name = params.get("name");
-        String gender = params.get("gender");
-        String course = params.get("course");
-        String stream = params.get("stream");
-        String year = params.get("year");
-        String email = params.get("email");
-        String dobStr = params.get("dob"); // String value from map
-        LocalDate dob = LocalDate.parse(dobStr); 
-        String address = params.get("address");
-        String parentName = params.get("parentName");
-        String parentContact = params.get("parentContact");
-        String contactNo = params.get("contactNo");
-        String guardianName = params.get("guardianName");
-        String guardianContact = params.get("guardianContact");
-        
-        System.out.println("Calling studentService.registerStudent with parameters:");
-        System.out.println("Email: " + email);
-        
-        if (studentService.existsByEmail(email)) {
-            return ResponseEntity.badRequest().body("Email already registered");
-        }
-        
-        Student student = studentService.registerStudent(
-            collegeId, name, gender, dob, course, stream, year,
-            email, contactNo, address, guardianName, guardianContact, parentName, parentContact
-        );
-        
-        return ResponseEntity.status(HttpStatus.CREATED).body(student);
+public ResponseEntity<?> registerStudent(@RequestBody Map<String, String> params,
+                                         @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+    return idempotencyStore.execute("register", idempotencyKey, params, () -> {
+        try {
+            String collegeId = params.get("collegeId");
+            String name = params.get("name");
+            String gender = params.get("gender");
+            String course = params.get("course");
+            String stream = params.get("stream");
+            String year = params.get("year");
+            String email = params.get("email");
+            String dobStr = params.get("dob"); // String value from map
+            LocalDate dob = LocalDate.parse(dobStr); 
+            String address = params.get("address");
+            String parentName = params.get("parentName");
+            String parentContact = params.get("parentContact");
+            String contactNo = params.get("contactNo");
+            String guardianName = params.get("guardianName");
+            String guardianContact = params.get("guardianContact");
             
-    } catch (Exception e) {
-        System.out.println("Full exception:");
-        e.printStackTrace();
-        return ResponseEntity.badRequest().body("Registration failed: " + e.getMessage());
+            // No existsByEmail pre-check: the unique constraints reject duplicates, even under double-submits
+            Student student = studentService.registerStudent(
+                collegeId, name, gender, dob, course, stream, year,
+                email, contactNo, address, guardianName, guardianContact, parentName, parentContact
+            );
+            
+            return ResponseEntity.status(HttpStatus.CREATED).body(student);
+                
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Registration failed: " + e.getMessage());
+        }
+    });
+}
+
+// One-step admission: the registration form plus roomId and password, in one transaction
+@PostMapping("/admission")
+public ResponseEntity<?> admitStudent(@RequestBody Map<String, String> params,
+                                      @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+    return idempotencyStore.execute("admission", idempotencyKey, params, () -> admit(params));
+}
+
+private ResponseEntity<?> admit(Map<String, String> params) {
+    try {
+        Student student = studentService.admitStudent(
+            params.get("collegeId"), params.get("name"), params.get("gender"),
+            LocalDate.parse(params.get("dob")), params.get("course"), params.get("stream"), params.get("year"),
+            params.get("email"), params.get("contactNo"), params.get("address"),
+            params.get("guardianName"), params.get("guardianContact"),
+            params.get("parentName"), params.get("parentContact"),
+            Integer.valueOf(params.get("roomId")), params.get("password"));
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(new AdmissionResult(student.getStudentId(),
+                student.getCollegeId(), student.getName(), student.getEmail(), student.getRoomId()));
+    } catch (IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    } catch (RuntimeException e) {
+        return ResponseEntity.badRequest().body("Admission failed: " + e.getMessage());
+    }
+}
+
+// Bulk admission CSV; see StudentImportService for the expected columns
+@PostMapping("/Admin/import")
+public ResponseEntity<?> importAdmissions(@RequestParam("file") MultipartFile file) {
+    try {
+        StudentImportReport report = studentImportService.importAdmissions(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8));
+        return ResponseEntity.ok(report);
+    } catch (IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    } catch (IOException e) {
+        return ResponseEntity.badRequest().body("Could not read admission file: " + e.getMessage());
     }
 }
 
@@ -148,19 +216,66 @@ public ResponseEntity<?> updateRoomId(@RequestBody Map<String, String> params) {
 
 
 
+    // ===== LOGIN ENDPOINT (POST) =====
+    // Issues a session token; later requests send it as "Authorization: Bearer <token>".
+    @PostMapping("/login")
+    public ResponseEntity<?> login(@RequestBody Map<String, String> body) {
+        try {
+            return ResponseEntity.ok(issueSession(body.get("email"), body.get("password")));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Login failed: " + e.getMessage());
+        }
+    }
+
     // ===== LOGIN ENDPOINT (GET) =====
+    // Kept for older clients; returns the same token response (never the Student row).
     @GetMapping("/login")
     public ResponseEntity<?> loginStudent(@RequestParam String email, 
                                         @RequestParam String password) {
         try {
-            Student student = studentService.login(email, password);
-            return ResponseEntity.ok(student);
+            return ResponseEntity.ok(issueSession(email, password));
             
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body("Login failed: " + e.getMessage());
         }
     }
 
+    // ===== ADMIN LOGIN =====
+    // The admin screens send this token on every /Admin call.
+    @PostMapping("/Admin/login")
+    public ResponseEntity<?> adminLogin(@RequestBody Map<String, String> body) {
+        String userId = body.get("userId");
+        if (!adminAccount.matches(userId, body.get("password"))) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Login failed: invalid credentials");
+        }
+        String token = tokenService.issue(AdminAccount.TOKEN_SUBJECT, AdminAccount.ROLE);
+        TokenService.TokenClaims claims = tokenService.verify(token).orElseThrow();
+        return ResponseEntity.ok(new LoginResponse(token, null, userId, AdminAccount.ROLE, claims.expiresAt()));
+    }
+
+    private LoginResponse issueSession(String email, String password) {
+        StudentRepository.StudentCredentials credentials = studentService.login(email, password);
+        String token = tokenService.issue(credentials.getStudentId(), STUDENT_ROLE);
+        TokenService.TokenClaims claims = tokenService.verify(token).orElseThrow();
+        return new LoginResponse(token, credentials.getStudentId(), credentials.getName(), STUDENT_ROLE,
+                claims.expiresAt());
+    }
+
+    // Identity of the caller, straight from the token (no database access)
+    @GetMapping("/me")
+    public ResponseEntity<?> me(@AuthenticationPrincipal TokenService.TokenClaims claims) {
+        return ResponseEntity.ok(Map.of(
+                "studentId", claims.studentId(),
+                "role", claims.role(),
+                "expiresAt", claims.expiresAt()));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@AuthenticationPrincipal TokenService.TokenClaims claims) {
+        tokenService.revoke(claims);
+        return ResponseEntity.ok("Logged out");
+    }
+
     // Dashboard
     @GetMapping("Admin/dashboard/student-count")
     public ResponseEntity<Long> getStudentCount() {
@@ -171,26 +286,53 @@ public ResponseEntity<?> updateRoomId(@RequestBody Map<String, String> params) {
     @GetMapping("Admin/student/table")
 public ResponseEntity<?> getStudentRoomFeeInfo() {
     try {
-        List<Object[]> rawData = studentService.findStudentRoomFeeInfo();
+        // Typed rows serialize directly; no per-row map
+        return ResponseEntity.ok(studentService.getStudentTable());
+    } catch (Exception e) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Failed to retrieve data: " + e.getMessage());
+    }
+}
 
-        
-        List<Map<String, Object>> mappedList = rawData.stream().map(row -> {
-            Map<String, Object> map = new HashMap<>();
-            map.put("name", row[0]);
-            map.put("studentId", row[1]);
-            map.put("roomNo", row[2]);
-            map.put("admissionDate", row[3]);
-            map.put("fee", row[4]);
-            map.put("feeStatus", row[5]);
-            return map;
-        }).collect(Collectors.toList());
-
-        return ResponseEntity.ok(mappedList);
+@GetMapping("Admin/student/table/page")
+public ResponseEntity<?> getStudentTablePage(@RequestParam(defaultValue = "0") int page,
+                                             @RequestParam(defaultValue = "25") int size,
+                                             @RequestParam(defaultValue = "studentId") String sort,
+                                             @RequestParam(defaultValue = "asc") String direction,
+                                             @RequestParam(required = false) String feeStatus,
+                                             @RequestParam(required = false) String roomNo,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate admittedFrom,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate admittedTo) {
+    try {
+        StudentQueryRepository.StudentTableFilter filter = new StudentQueryRepository.StudentTableFilter(
+                feeStatus == null || feeStatus.isBlank() ? null : feeStatus.toUpperCase(),
+                roomNo == null || roomNo.isBlank() ? null : roomNo,
+                admittedFrom, admittedTo);
+        return ResponseEntity.ok(studentService.getStudentTablePage(
+                filter, sort, !"desc".equalsIgnoreCase(direction), page, size));
+    } catch (IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
     } catch (Exception e) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body("Failed to retrieve data: " + e.getMessage());
     }
 }
+// ===== FRONT-DESK SEARCH (in-memory index) =====
+@GetMapping("/Admin/search")
+public ResponseEntity<?> searchStudents(@RequestParam String q, @RequestParam(defaultValue = "10") int limit) {
+    return ResponseEntity.ok(studentSearchIndex.search(q, limit));
+}
+
+@PostMapping("/Admin/search/rebuild")
+public ResponseEntity<?> rebuildSearchIndex() {
+    return ResponseEntity.ok(studentSearchIndex.rebuild());
+}
+
+@GetMapping("/Admin/search/metrics")
+public ResponseEntity<?> getSearchIndexMetrics() {
+    return ResponseEntity.ok(studentSearchIndex.getMetrics());
+}
+
 @GetMapping("/Admin/studentProfile/personalAndRoomData")
 public ResponseEntity<?> getPersonalAndRoomData(@RequestParam Integer studentId) {
     try {
@@ -210,6 +352,45 @@ public ResponseEntity<?> getPersonalAndRoomData(@RequestParam Integer studentId)
                 .body("Failed to retrieve data: " + e.getMessage());
     }
 }
+// Unified profile: personal data, room and roommates from the profile cache
+@GetMapping("/Admin/studentProfile")
+public ResponseEntity<?> getStudentProfile(@RequestParam Integer studentId) {
+    try {
+        if (studentId == null || studentId <= 0) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("Invalid student ID. Must be a positive integer.");
+        }
+        StudentProfile profile = studentService.getProfile(studentId);
+        if (profile == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body("Student not found with ID: " + studentId);
+        }
+        return ResponseEntity.ok(profile);
+    } catch (Exception e) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Failed to retrieve profile: " + e.getMessage());
+    }
+}
+
+@GetMapping("/Admin/studentProfile/cache/metrics")
+public ProfileCacheMetrics getProfileCacheMetrics() {
+    return studentProfileCache.getMetrics();
+}
+
+@PostMapping("/Admin/studentProfile/removeFromRoom")
+public ResponseEntity<?> removeFromRoom(@RequestBody Map<String, String> params) {
+    try {
+        Integer studentId = Integer.parseInt(params.get("studentId"));
+        studentService.removeFromRoom(studentId);
+        return ResponseEntity.ok("Student removed from room");
+    } catch (NumberFormatException e) {
+        return ResponseEntity.badRequest().body("Invalid student ID format");
+    } catch (Exception e) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Failed to remove student from room: " + e.getMessage());
+    }
+}
+
 @GetMapping("/Admin/studentProfile/roommates")
 public ResponseEntity<List<String>> getRoommates(@RequestParam Integer studentId) {
     System.out.println("=== CONTROLLER: Received request for studentId: " + studentId);
@@ -0,0 +1,7 @@
+package com.dto;
+
+/**
+ * Outcome of a one-step admission: the new student and the room they were placed in.
+ */
+public record AdmissionResult(Integer studentId, String collegeId, String name, String email, Integer roomId) {
+}
@@ -0,0 +1,16 @@
+package com.dto;
+
+/**
+ * Placement of one student. roomId is null when no room could be found, with
+ * the reason; the match flags are null when there was no such preference.
+ */
+public record AllocationLine(
+        Integer studentId,
+        String collegeId,
+        String gender,
+        Integer roomId,
+        String roomNo,
+        Boolean floorMatched,
+        Boolean roomTypeMatched,
+        String reason) {
+}
@@ -0,0 +1,10 @@
+package com.dto;
+
+import java.util.List;
+
+/**
+ * One student to place and what they asked for. Every preference is optional;
+ * roommates are college IDs of students to share a room with.
+ */
+public record AllocationPreference(Integer studentId, String floor, String roomType, List<String> roommates) {
+}
@@ -0,0 +1,17 @@
+package com.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk room allocation. With dryRun nothing was written.
+ */
+public record AllocationResult(
+        boolean dryRun,
+        int requested,
+        int allocated,
+        int unallocated,
+        int roomsUsed,
+        long planMillis,
+        long applyMillis,
+        List<AllocationLine> lines) {
+}
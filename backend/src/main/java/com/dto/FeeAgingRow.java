@@ -0,0 +1,19 @@
+package com.dto;
+
+/**
+ * Overdue PENDING fees of one floor/course/year group, split into age buckets
+ * by days past the due date.
+ */
+public record FeeAgingRow(
+        String floor,
+        String course,
+        String year,
+        long count0To30,
+        double amount0To30,
+        long count31To60,
+        double amount31To60,
+        long count61To90,
+        double amount61To90,
+        long countOver90,
+        double amountOver90) {
+}
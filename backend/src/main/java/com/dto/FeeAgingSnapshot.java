@@ -0,0 +1,11 @@
+package com.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Precomputed aging report; served as-is until the next refresh.
+ */
+public record FeeAgingSnapshot(LocalDate asOf, LocalDateTime computedAt, long elapsedMillis, List<FeeAgingRow> rows) {
+}
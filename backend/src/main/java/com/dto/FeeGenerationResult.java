@@ -0,0 +1,9 @@
+package com.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Outcome of one monthly fee generation run.
+ */
+public record FeeGenerationResult(LocalDate dueDate, int rowsCreated, long elapsedMillis) {
+}
@@ -0,0 +1,9 @@
+package com.dto;
+
+import java.util.List;
+
+/**
+ * Statuses whose fee_aggregates row disagreed with Fees and was rewritten.
+ */
+public record FeeReconciliationResult(List<String> correctedStatuses, long elapsedMillis) {
+}
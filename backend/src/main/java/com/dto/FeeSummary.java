@@ -0,0 +1,16 @@
+package com.dto;
+
+/**
+ * Everything the admin fees dashboard shows above the table, computed together.
+ */
+public record FeeSummary(
+        Double paidFees,
+        Double pendingFees,
+        Double totalFees,
+        Long paidCount,
+        Long pendingCount,
+        Long totalCount,
+        Double collectionPercent,
+        Double paidCountPercent,
+        Double pendingCountPercent) {
+}
@@ -0,0 +1,11 @@
+package com.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of the admin fee table. Pass nextAfterStudentId / nextAfterFeeId
+ * back as afterStudentId / afterFeeId to fetch the following page; both are null
+ * on the last page.
+ */
+public record FeeTablePage(List<Object[]> rows, Integer nextAfterStudentId, Integer nextAfterFeeId) {
+}
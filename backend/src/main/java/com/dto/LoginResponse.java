@@ -0,0 +1,9 @@
+package com.dto;
+
+import java.time.Instant;
+
+/**
+ * Returned by login: the session token plus what the portal needs to show the student.
+ */
+public record LoginResponse(String token, Integer studentId, String name, String role, Instant expiresAt) {
+}
@@ -0,0 +1,14 @@
+package com.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Expected diners for one meal on one day: residents minus expected skips,
+ * with a 95% range. registeredSkips are skips already entered for the day and
+ * are never forecast away; samples is how many past days the estimate rests on.
+ */
+public record MealForecast(LocalDate date, String mealType, boolean holiday, int residents, int registeredSkips,
+                           int expectedSkips, int expectedHeadcount, int headcountLow, int headcountHigh,
+                           long samples, LocalDateTime generatedAt) {
+}
@@ -0,0 +1,11 @@
+package com.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Outcome of a nightly forecast run: days newly folded into the statistics,
+ * the last day now included, and forecasts written.
+ */
+public record MealForecastRefreshResult(int daysFolded, LocalDate foldedThrough, int forecasts,
+                                        long elapsedMillis) {
+}
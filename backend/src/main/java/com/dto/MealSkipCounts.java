@@ -0,0 +1,19 @@
+package com.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Meals marked as skipped on one day, per meal, and how many students skipped
+ * all three.
+ */
+public record MealSkipCounts(LocalDate date, int breakfast, int lunch, int dinner, int allMeals) {
+
+    public int count(String mealType) {
+        return switch (mealType == null ? "" : mealType.trim().toLowerCase()) {
+            case "breakfast" -> breakfast;
+            case "lunch" -> lunch;
+            case "dinner" -> dinner;
+            default -> throw new IllegalArgumentException("Invalid meal type: " + mealType);
+        };
+    }
+}
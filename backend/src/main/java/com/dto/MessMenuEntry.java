@@ -0,0 +1,8 @@
+package com.dto;
+
+/**
+ * One meal of the weekly menu. day is Monday..Sunday, mealType
+ * Breakfast/Lunch/Dinner; price may be null.
+ */
+public record MessMenuEntry(Integer menuId, String day, String mealType, Double price, String items) {
+}
@@ -0,0 +1,14 @@
+package com.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Skip (or un-skip, with skipped=false) the given meals on every day from
+ * "from" to "to" inclusive. mealTypes defaults to all meals and skipped to
+ * true. studentIds or floor pick the students on the admin endpoint; the
+ * student endpoint always uses the caller.
+ */
+public record MessSkipBatch(LocalDate from, LocalDate to, List<String> mealTypes, Boolean skipped,
+                            List<Integer> studentIds, String floor) {
+}
@@ -0,0 +1,11 @@
+package com.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a MessSkipBatch: rows inserted, rows changed, rows already in the
+ * requested state, and requested student IDs that do not exist.
+ */
+public record MessSkipBatchResult(int students, int days, int inserted, int updated, int unchanged,
+                                  List<Integer> unknownStudentIds, long elapsedMillis) {
+}
@@ -0,0 +1,9 @@
+package com.dto;
+
+/**
+ * Outcome of rebuilding the mess skip bitmaps from MessSkipping: bitmaps kept,
+ * bitmaps rewritten, skipped meals they hold and their stored size.
+ */
+public record MessSkipReconciliationResult(int bitmaps, int corrected, long skips, long storedBytes,
+                                           long elapsedMillis) {
+}
@@ -0,0 +1,11 @@
+package com.dto;
+
+import java.time.YearMonth;
+
+/**
+ * Meals one student skipped in a month, per meal, and the days on which all
+ * three were skipped.
+ */
+public record MonthlySkipCounts(Integer studentId, YearMonth month, int breakfast, int lunch, int dinner,
+                                int wholeDays) {
+}
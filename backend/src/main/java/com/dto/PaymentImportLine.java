@@ -0,0 +1,8 @@
+package com.dto;
+
+/**
+ * Result for one line of a payment settlement file.
+ * outcome is MATCHED, UNMATCHED, DUPLICATE or INVALID.
+ */
+public record PaymentImportLine(int line, String reference, String outcome, Integer feeId, String message) {
+}
@@ -0,0 +1,15 @@
+package com.dto;
+
+import java.util.List;
+
+/**
+ * Totals and per-line results of one payment reconciliation import.
+ */
+public record PaymentImportReport(
+        int matched,
+        int unmatched,
+        int duplicates,
+        int invalid,
+        long elapsedMillis,
+        List<PaymentImportLine> lines) {
+}
@@ -0,0 +1,15 @@
+package com.dto;
+
+/**
+ * Usage figures of the student profile cache.
+ */
+public record ProfileCacheMetrics(
+        int size,
+        int maxSize,
+        long ttlSeconds,
+        long hits,
+        long misses,
+        double hitRatePercent,
+        long evictions,
+        long invalidations) {
+}
@@ -0,0 +1,17 @@
+package com.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * One bookable room. freeSeats is null for rooms without a capacity limit.
+ */
+public record RoomAvailability(
+        Integer roomId,
+        String roomNo,
+        String roomType,
+        String floor,
+        BigDecimal monthlyRent,
+        int currentOccupants,
+        int capacity,
+        Integer freeSeats) {
+}
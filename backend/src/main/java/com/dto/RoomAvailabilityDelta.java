@@ -0,0 +1,9 @@
+package com.dto;
+
+/**
+ * A committed change to one room, as pushed on /api/rooms/events. available
+ * says whether the room belongs on the admission page now; room is null when
+ * the room was deleted.
+ */
+public record RoomAvailabilityDelta(Integer roomId, boolean available, RoomAvailability room) {
+}
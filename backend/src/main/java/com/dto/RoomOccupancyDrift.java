@@ -0,0 +1,9 @@
+package com.dto;
+
+/**
+ * One room whose stored occupants/status disagreed with its residents, and
+ * what it was corrected to.
+ */
+public record RoomOccupancyDrift(Integer roomId, String roomNo, Integer storedOccupants, int actualOccupants,
+                                 String storedStatus, String status) {
+}
@@ -0,0 +1,10 @@
+package com.dto;
+
+import java.util.List;
+
+/**
+ * Rooms whose occupants or status were rewritten from Student.room_id.
+ */
+public record RoomReconciliationResult(int roomsCorrected, long occupantDrift, List<RoomOccupancyDrift> corrected,
+                                       long elapsedMillis) {
+}
@@ -0,0 +1,16 @@
+package com.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Size and usage figures of the in-memory student search index.
+ */
+public record SearchIndexMetrics(
+        int students,
+        int distinctTokens,
+        long postings,
+        LocalDateTime lastRebuildAt,
+        long lastRebuildMillis,
+        long queries,
+        double averageQueryMicros) {
+}
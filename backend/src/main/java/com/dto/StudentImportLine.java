@@ -0,0 +1,9 @@
+package com.dto;
+
+import java.util.List;
+
+/**
+ * Result for one row of an admission import. outcome is IMPORTED or REJECTED.
+ */
+public record StudentImportLine(int line, String email, String outcome, Integer studentId, List<String> errors) {
+}
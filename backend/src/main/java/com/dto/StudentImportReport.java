@@ -0,0 +1,9 @@
+package com.dto;
+
+import java.util.List;
+
+/**
+ * Totals and per-row results of one bulk admission import.
+ */
+public record StudentImportReport(int imported, int rejected, long elapsedMillis, List<StudentImportLine> lines) {
+}
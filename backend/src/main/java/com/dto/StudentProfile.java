@@ -0,0 +1,34 @@
+package com.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Everything the admin profile page shows about a student: personal details,
+ * room and roommates.
+ */
+public record StudentProfile(
+        Integer studentId,
+        String name,
+        String collegeId,
+        String gender,
+        LocalDate dob,
+        LocalDate admissionDate,
+        String email,
+        String contactNo,
+        String parentName,
+        String parentContact,
+        String guardianName,
+        String guardianContact,
+        String address,
+        String course,
+        String stream,
+        String year,
+        Boolean admissionFee,
+        Integer roomId,
+        String roomNo,
+        String floor,
+        BigDecimal monthlyRent,
+        List<String> roommates) {
+}
@@ -0,0 +1,8 @@
+package com.dto;
+
+/**
+ * A type-ahead match from the student search index, best matches first.
+ */
+public record StudentSearchHit(Integer studentId, String name, String collegeId, String email,
+                               String contactNo, int score) {
+}
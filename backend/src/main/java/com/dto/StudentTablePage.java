@@ -0,0 +1,9 @@
+package com.dto;
+
+import java.util.List;
+
+/**
+ * A sorted, filtered page of the admin student table.
+ */
+public record StudentTablePage(List<StudentTableRow> rows, int page, int size, long totalElements, int totalPages) {
+}
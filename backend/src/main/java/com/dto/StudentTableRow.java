@@ -0,0 +1,15 @@
+package com.dto;
+
+import java.time.LocalDate;
+
+/**
+ * One row of the admin student table: the student, their room and their latest fee.
+ */
+public record StudentTableRow(
+        String name,
+        Integer studentId,
+        String roomNo,
+        LocalDate admissionDate,
+        Double fee,
+        String feeStatus) {
+}
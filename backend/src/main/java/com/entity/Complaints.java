@@ -21,7 +21,7 @@ public class Complaints {
     @Column(name = "description", nullable = false)
     private String description;
 
-    @Column(name = "status",length = 20,columnDefinition = "VARCHAR(20) DEFAULT'pending")
+    @Column(name = "status",length = 20,columnDefinition = "VARCHAR(20) DEFAULT 'pending'")
     private String status = "pending";
      
     @Column(name = "created_at", columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
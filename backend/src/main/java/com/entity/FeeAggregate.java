@@ -0,0 +1,67 @@
+package com.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Running count and amount of Fees rows per status, maintained alongside every
+ * fee write so dashboard totals never need to scan Fees.
+ */
+@Entity
+@Table(name = "fee_aggregates")
+public class FeeAggregate {
+
+    @Id
+    @Column(name = "status", length = 20)
+    private String status;
+
+    @Column(name = "fee_count", nullable = false)
+    private Long feeCount = 0L;
+
+    @Column(name = "total_amount", nullable = false)
+    private Double totalAmount = 0.0;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public FeeAggregate() {}
+
+    public FeeAggregate(String status, Long feeCount, Double totalAmount) {
+        this.status = status;
+        this.feeCount = feeCount;
+        this.totalAmount = totalAmount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Long getFeeCount() {
+        return feeCount;
+    }
+
+    public void setFeeCount(Long feeCount) {
+        this.feeCount = feeCount;
+    }
+
+    public Double getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(Double totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
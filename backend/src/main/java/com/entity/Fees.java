@@ -1,9 +1,14 @@
 package com.entity;
 
 import jakarta.persistence.*;
+import java.time.LocalDate;
 
 @Entity
-@Table(name = "Fees")
+@Table(name = "Fees", indexes = {
+    @Index(name = "idx_fees_student_due", columnList = "student_id, due_date"),
+    @Index(name = "idx_fees_status_due", columnList = "status, due_date"),
+    @Index(name = "idx_fees_payment_ref", columnList = "payment_reference")
+})
 public class Fees {
 	
     @Id
@@ -18,10 +23,10 @@ public class Fees {
     private Double amount;
 
     @Column(name = "due_date", nullable = false)
-    private String dueDate;
+    private LocalDate dueDate;
 
     @Column(name = "paid_date", nullable = true)
-    private String paidDate;
+    private LocalDate paidDate;
 
     @Column(name = "status", nullable = false, length = 20)
     private String status;
@@ -29,9 +34,13 @@ public class Fees {
     @Column(name = "payment_mode", nullable = true)
     private String paymentMode;
 
+    // Bank/UPI transaction reference of the settlement that paid this row
+    @Column(name = "payment_reference", nullable = true, length = 64)
+    private String paymentReference;
+
     public Fees() {}
     
-    public Fees(Integer studentId, Double amount, String dueDate, String paidDate, String status, String paymentMode) {
+    public Fees(Integer studentId, Double amount, LocalDate dueDate, LocalDate paidDate, String status, String paymentMode) {
         this.studentId = studentId;
         this.amount = amount;
         this.dueDate = dueDate;
@@ -64,19 +73,19 @@ public class Fees {
         this.amount = amount;
     }
 
-    public String getDueDate() {
+    public LocalDate getDueDate() {
         return dueDate;
     }
 
-    public void setDueDate(String dueDate) {
+    public void setDueDate(LocalDate dueDate) {
         this.dueDate = dueDate;
     }
 
-    public String getPaidDate() {
+    public LocalDate getPaidDate() {
         return paidDate;
     }
 
-    public void setPaidDate(String paidDate) {
+    public void setPaidDate(LocalDate paidDate) {
         this.paidDate = paidDate;
     }
 
@@ -95,4 +104,12 @@ public class Fees {
     public void setPaymentMode(String paymentMode) {
         this.paymentMode = paymentMode;
     }
-}
\ No newline at end of file
+
+    public String getPaymentReference() {
+        return paymentReference;
+    }
+
+    public void setPaymentReference(String paymentReference) {
+        this.paymentReference = paymentReference;
+    }
+}
@@ -0,0 +1,105 @@
+package com.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Running mean and sum of squared deviations (Welford) of daily skipped
+ * meals for one meal and one bucket of days, e.g. "dow:1:0" (non-holiday
+ * Mondays), "month:3" or "all". Days up to folded_through are included.
+ */
+@Entity
+@Table(name = "mess_forecast_stats", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_mess_forecast_stats_meal_bucket", columnNames = {"meal_type", "bucket"})
+})
+public class MessForecastStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stat_id")
+    private Long statId;
+
+    @Column(name = "meal_type", nullable = false, length = 10)
+    private String mealType;
+
+    @Column(name = "bucket", nullable = false, length = 20)
+    private String bucket;
+
+    @Column(name = "samples", nullable = false)
+    private Long samples = 0L;
+
+    @Column(name = "mean", nullable = false)
+    private Double mean = 0.0;
+
+    @Column(name = "m2", nullable = false)
+    private Double m2 = 0.0;
+
+    @Column(name = "folded_through", nullable = false)
+    private LocalDate foldedThrough;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public MessForecastStat() {}
+
+    public Long getStatId() {
+        return statId;
+    }
+
+    public String getMealType() {
+        return mealType;
+    }
+
+    public void setMealType(String mealType) {
+        this.mealType = mealType;
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(String bucket) {
+        this.bucket = bucket;
+    }
+
+    public Long getSamples() {
+        return samples;
+    }
+
+    public void setSamples(Long samples) {
+        this.samples = samples;
+    }
+
+    public Double getMean() {
+        return mean;
+    }
+
+    public void setMean(Double mean) {
+        this.mean = mean;
+    }
+
+    public Double getM2() {
+        return m2;
+    }
+
+    public void setM2(Double m2) {
+        this.m2 = m2;
+    }
+
+    public LocalDate getFoldedThrough() {
+        return foldedThrough;
+    }
+
+    public void setFoldedThrough(LocalDate foldedThrough) {
+        this.foldedThrough = foldedThrough;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,148 @@
+package com.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Expected diners for one meal on one upcoming day, with a 95% range,
+ * precomputed nightly by MealForecastService.
+ */
+@Entity
+@Table(name = "mess_headcount_forecasts", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_mess_headcount_forecasts_date_meal", columnNames = {"forecast_date", "meal_type"})
+})
+public class MessHeadcountForecast {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "forecast_id")
+    private Long forecastId;
+
+    @Column(name = "forecast_date", nullable = false)
+    private LocalDate forecastDate;
+
+    @Column(name = "meal_type", nullable = false, length = 10)
+    private String mealType;
+
+    @Column(name = "holiday", nullable = false)
+    private Boolean holiday = false;
+
+    @Column(name = "residents", nullable = false)
+    private Integer residents = 0;
+
+    @Column(name = "registered_skips", nullable = false)
+    private Integer registeredSkips = 0;
+
+    @Column(name = "expected_skips", nullable = false)
+    private Integer expectedSkips = 0;
+
+    @Column(name = "expected_headcount", nullable = false)
+    private Integer expectedHeadcount = 0;
+
+    @Column(name = "headcount_low", nullable = false)
+    private Integer headcountLow = 0;
+
+    @Column(name = "headcount_high", nullable = false)
+    private Integer headcountHigh = 0;
+
+    @Column(name = "samples", nullable = false)
+    private Long samples = 0L;
+
+    @Column(name = "generated_at")
+    private LocalDateTime generatedAt;
+
+    public MessHeadcountForecast() {}
+
+    public Long getForecastId() {
+        return forecastId;
+    }
+
+    public LocalDate getForecastDate() {
+        return forecastDate;
+    }
+
+    public void setForecastDate(LocalDate forecastDate) {
+        this.forecastDate = forecastDate;
+    }
+
+    public String getMealType() {
+        return mealType;
+    }
+
+    public void setMealType(String mealType) {
+        this.mealType = mealType;
+    }
+
+    public Boolean getHoliday() {
+        return holiday;
+    }
+
+    public void setHoliday(Boolean holiday) {
+        this.holiday = holiday;
+    }
+
+    public Integer getResidents() {
+        return residents;
+    }
+
+    public void setResidents(Integer residents) {
+        this.residents = residents;
+    }
+
+    public Integer getRegisteredSkips() {
+        return registeredSkips;
+    }
+
+    public void setRegisteredSkips(Integer registeredSkips) {
+        this.registeredSkips = registeredSkips;
+    }
+
+    public Integer getExpectedSkips() {
+        return expectedSkips;
+    }
+
+    public void setExpectedSkips(Integer expectedSkips) {
+        this.expectedSkips = expectedSkips;
+    }
+
+    public Integer getExpectedHeadcount() {
+        return expectedHeadcount;
+    }
+
+    public void setExpectedHeadcount(Integer expectedHeadcount) {
+        this.expectedHeadcount = expectedHeadcount;
+    }
+
+    public Integer getHeadcountLow() {
+        return headcountLow;
+    }
+
+    public void setHeadcountLow(Integer headcountLow) {
+        this.headcountLow = headcountLow;
+    }
+
+    public Integer getHeadcountHigh() {
+        return headcountHigh;
+    }
+
+    public void setHeadcountHigh(Integer headcountHigh) {
+        this.headcountHigh = headcountHigh;
+    }
+
+    public Long getSamples() {
+        return samples;
+    }
+
+    public void setSamples(Long samples) {
+        this.samples = samples;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+}
@@ -3,7 +3,9 @@ package com.entity;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "MessMenu")
+@Table(name = "MessMenu", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_mess_menu_day_meal", columnNames = {"day", "meal_type"})
+})
 public class MessMenu {
     
     @Id
@@ -11,11 +13,9 @@ public class MessMenu {
     @Column(name = "menu_id")
     private Integer menuId;
 
-    @Enumerated(EnumType.STRING)
     @Column(name = "day", nullable = false, length = 10)
     private String day;
     
-    @Enumerated(EnumType.STRING)
     @Column(name = "meal_type", nullable = false, length = 10)
     private String mealType;
     
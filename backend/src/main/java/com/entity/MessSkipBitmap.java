@@ -0,0 +1,95 @@
+package com.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Students who skipped one meal on one day, as a deflated bitmap indexed by
+ * student_id. Rewritten in the same transaction as the MessSkipping rows it
+ * summarizes; version goes up by one on every rewrite.
+ */
+@Entity
+@Table(name = "mess_skip_bitmaps", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_mess_skip_bitmaps_date_meal", columnNames = {"skip_date", "meal_type"})
+})
+public class MessSkipBitmap {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "bitmap_id")
+    private Long bitmapId;
+
+    @Column(name = "skip_date", nullable = false)
+    private LocalDate skipDate;
+
+    @Column(name = "meal_type", nullable = false, length = 10)
+    private String mealType;
+
+    @Lob
+    @Column(name = "student_bits", nullable = false, length = 16777215)
+    private byte[] studentBits;
+
+    @Column(name = "skipped_count", nullable = false)
+    private Integer skippedCount = 0;
+
+    @Column(name = "version", nullable = false)
+    private Long version = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public MessSkipBitmap() {}
+
+    public Long getBitmapId() {
+        return bitmapId;
+    }
+
+    public LocalDate getSkipDate() {
+        return skipDate;
+    }
+
+    public void setSkipDate(LocalDate skipDate) {
+        this.skipDate = skipDate;
+    }
+
+    public String getMealType() {
+        return mealType;
+    }
+
+    public void setMealType(String mealType) {
+        this.mealType = mealType;
+    }
+
+    public byte[] getStudentBits() {
+        return studentBits;
+    }
+
+    public void setStudentBits(byte[] studentBits) {
+        this.studentBits = studentBits;
+    }
+
+    public Integer getSkippedCount() {
+        return skippedCount;
+    }
+
+    public void setSkippedCount(Integer skippedCount) {
+        this.skippedCount = skippedCount;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
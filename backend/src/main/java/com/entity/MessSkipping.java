@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name="MessSkipping")
+@Table(name="MessSkipping", indexes = {
+    @Index(name = "idx_messskipping_date_meal", columnList = "date, meal_type")
+})
 public class MessSkipping {
     
     @Id
@@ -6,7 +6,11 @@ import java.time.LocalDateTime;
 
 
 @Entity
-@Table(name = "Student")
+@Table(name = "Student", indexes = {
+    @Index(name = "idx_student_name", columnList = "name"),
+    @Index(name = "idx_student_admission_date", columnList = "admission_date"),
+    @Index(name = "idx_student_room", columnList = "room_id")
+})
 public class Student {
     
     @Id
@@ -0,0 +1,119 @@
+package com.repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads and JDBC batch writes for the bulk room allocator.
+ */
+@Repository
+public class AllocationRepository {
+
+    // Marks a room whose current residents are not all of one gender.
+    public static final String MIXED = "*";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public AllocationRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    public record CandidateStudent(Integer studentId, String collegeId, String gender, Integer roomId) {}
+
+    public record StudentRoom(Integer studentId, Integer roomId) {}
+
+    public record RoomSeats(Integer roomId, int seats, String gender) {}
+
+    // ===== SELECT OPERATIONS =====
+    public List<CandidateStudent> findUnassignedStudents() {
+        return jdbcTemplate.query(
+            "SELECT student_id, college_id, gender, room_id FROM Student WHERE room_id IS NULL ORDER BY student_id",
+            (rs, i) -> candidate(rs.getInt("student_id"), rs.getString("college_id"), rs.getString("gender"),
+                    rs.getObject("room_id", Integer.class)));
+    }
+
+    public List<CandidateStudent> findStudents(Collection<Integer> studentIds) {
+        if (studentIds.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.query(
+            "SELECT student_id, college_id, gender, room_id FROM Student WHERE student_id IN (:ids) ORDER BY student_id",
+            Map.of("ids", studentIds),
+            (rs, i) -> candidate(rs.getInt("student_id"), rs.getString("college_id"), rs.getString("gender"),
+                    rs.getObject("room_id", Integer.class)));
+    }
+
+    public List<CandidateStudent> findByCollegeIds(Collection<String> collegeIds) {
+        if (collegeIds.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.query(
+            "SELECT student_id, college_id, gender, room_id FROM Student WHERE college_id IN (:ids)",
+            Map.of("ids", collegeIds),
+            (rs, i) -> candidate(rs.getInt("student_id"), rs.getString("college_id"), rs.getString("gender"),
+                    rs.getObject("room_id", Integer.class)));
+    }
+
+    // roomId -> gender of its residents, or MIXED
+    public Map<Integer, String> findRoomGenders() {
+        Map<Integer, String> genders = new HashMap<>();
+        jdbcTemplate.query("""
+            SELECT room_id, MIN(gender) AS min_gender, MAX(gender) AS max_gender
+            FROM Student WHERE room_id IS NOT NULL
+            GROUP BY room_id
+            """,
+            rs -> {
+                String min = rs.getString("min_gender");
+                genders.put(rs.getInt("room_id"), min.equals(rs.getString("max_gender")) ? min : MIXED);
+            });
+        return genders;
+    }
+
+    // ===== UPDATE OPERATIONS =====
+    // Guarded so a student placed by someone else meanwhile reports 0.
+    public int[] assignRooms(List<StudentRoom> assignments) {
+        return jdbcTemplate.batchUpdate(
+            "UPDATE Student SET room_id = ? WHERE student_id = ? AND room_id IS NULL",
+            assignments,
+            assignments.size(),
+            (ps, a) -> {
+                ps.setInt(1, a.roomId());
+                ps.setInt(2, a.studentId());
+            })[0];
+    }
+
+    // Takes several seats per room; 0 rows if the room no longer has them, or if
+    // someone of another gender moved in since the plan was made.
+    // status is assigned first because MySQL evaluates SET left to right.
+    public int[] addOccupants(List<RoomSeats> rooms) {
+        return jdbcTemplate.batchUpdate("""
+            UPDATE Rooms r
+            SET status = CASE WHEN COALESCE(r.current_occupants, 0) + ? >= r.capacity THEN 'occupied' ELSE r.status END,
+                current_occupants = COALESCE(r.current_occupants, 0) + ?
+            WHERE r.room_id = ? AND r.status = 'available' AND r.capacity > 0
+              AND COALESCE(r.current_occupants, 0) + ? <= r.capacity
+              AND NOT EXISTS (SELECT 1 FROM Student s WHERE s.room_id = r.room_id AND s.gender <> ?)
+            """,
+            rooms,
+            rooms.size(),
+            (ps, r) -> {
+                ps.setInt(1, r.seats());
+                ps.setInt(2, r.seats());
+                ps.setInt(3, r.roomId());
+                ps.setInt(4, r.seats());
+                ps.setString(5, r.gender());
+            })[0];
+    }
+
+    private static CandidateStudent candidate(int studentId, String collegeId, String gender, Integer roomId) {
+        return new CandidateStudent(studentId, collegeId, gender, roomId);
+    }
+}
@@ -0,0 +1,39 @@
+package com.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import com.entity.FeeAggregate;
+
+@Repository
+public interface FeeAggregateRepository extends JpaRepository<FeeAggregate, String> {
+
+    @Query(value = "SELECT * FROM fee_aggregates", nativeQuery = true)
+    List<FeeAggregate> findAllAggregates();
+
+    // Locks every aggregate row (and the gaps between them) so incremental writers
+    // wait while reconciliation compares and rewrites the table.
+    @Query(value = "SELECT * FROM fee_aggregates ORDER BY status FOR UPDATE", nativeQuery = true)
+    List<FeeAggregate> lockAllAggregates();
+
+    // Single-statement upsert: two first writers for a new status cannot collide on the key.
+    @Modifying
+    @Query(value = """
+        INSERT INTO fee_aggregates (status, fee_count, total_amount, updated_at)
+        VALUES (?1, ?2, ?3, CURRENT_TIMESTAMP)
+        ON DUPLICATE KEY UPDATE fee_count = fee_count + ?2, total_amount = total_amount + ?3,
+                                updated_at = CURRENT_TIMESTAMP
+        """, nativeQuery = true)
+    int addToAggregate(String status, Long countDelta, Double amountDelta);
+
+    @Modifying
+    @Query(value = """
+        UPDATE fee_aggregates
+        SET fee_count = ?2, total_amount = ?3, updated_at = CURRENT_TIMESTAMP
+        WHERE status = ?1
+        """, nativeQuery = true)
+    int overwriteAggregate(String status, Long feeCount, Double totalAmount);
+}
@@ -0,0 +1,77 @@
+package com.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC batch operations on Fees that are too large to go through one
+ * Spring Data call per row.
+ */
+@Repository
+public class FeesBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public FeesBatchRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    public record OutstandingFee(Integer feeId, Integer studentId, Double amount, LocalDate dueDate) {}
+
+    public record FeePayment(Integer feeId, LocalDate paidDate, String paymentMode, String paymentReference) {}
+
+    // ===== SELECT OPERATIONS =====
+    // PENDING rows of the given students, oldest due date first.
+    public List<OutstandingFee> findOutstandingByStudentIds(Collection<Integer> studentIds) {
+        if (studentIds.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.query("""
+            SELECT fee_id, student_id, amount, due_date FROM Fees
+            WHERE status = 'PENDING' AND student_id IN (:ids)
+            ORDER BY student_id, due_date, fee_id
+            """,
+            Map.of("ids", studentIds),
+            (rs, i) -> new OutstandingFee(rs.getInt("fee_id"), rs.getInt("student_id"),
+                    rs.getDouble("amount"), rs.getObject("due_date", LocalDate.class)));
+    }
+
+    // Which of the given references are already recorded against a fee row.
+    public Set<String> findExistingReferences(Collection<String> references) {
+        if (references.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList(
+            "SELECT payment_reference FROM Fees WHERE payment_reference IN (:refs)",
+            Map.of("refs", references), String.class));
+    }
+
+    // ===== UPDATE OPERATIONS =====
+    // Marks each fee PAID in one JDBC batch. The status guard means a row paid
+    // concurrently by another path reports 0 instead of being paid twice.
+    public int[] markPaid(List<FeePayment> payments) {
+        return jdbcTemplate.batchUpdate("""
+            UPDATE Fees SET status = 'PAID', paid_date = ?, payment_mode = ?, payment_reference = ?
+            WHERE fee_id = ? AND status = 'PENDING'
+            """,
+            payments,
+            payments.size(),
+            (ps, payment) -> {
+                ps.setDate(1, Date.valueOf(payment.paidDate()));
+                ps.setString(2, payment.paymentMode());
+                ps.setString(3, payment.paymentReference());
+                ps.setInt(4, payment.feeId());
+            })[0];
+    }
+}
@@ -1,12 +1,19 @@
 package com.repository;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import com.entity.Fees;
+import jakarta.persistence.QueryHint;
 
 
 @Repository
@@ -17,40 +24,116 @@ public interface FeesRepository extends JpaRepository<Fees, Integer> {
         INSERT INTO Fees (student_id, amount, due_date, paid_date, status, payment_mode) 
         VALUES (?1, ?2, ?3, ?4, ?5, ?6)
         """, nativeQuery = true)
-    int insertFees(Integer studentId, Double amount, String dueDate, String paidDate, String status, String paymentMode);
-
-    @Query(value = "SELECT * FROM Fees WHERE student_id = ?1", nativeQuery = true)
-    Fees findByStudentId(Integer studentId);
+    int insertFees(Integer studentId, Double amount, LocalDate dueDate, LocalDate paidDate, String status, String paymentMode);
 
+    // Set-based monthly generation: one INSERT ... SELECT over Student instead of a save() per student.
+    // The NOT EXISTS guard makes a re-run for the same due date a no-op.
     @Modifying
     @Query(value = """
-        UPDATE Fees 
-        SET amount = ?2, due_date = ?3, paid_date = ?4, status = ?5, payment_mode = ?6 
-        WHERE student_id = ?1
+        INSERT INTO Fees (student_id, amount, due_date, paid_date, status, payment_mode)
+        SELECT s.student_id, ?1, ?2, NULL, 'PENDING', NULL
+        FROM Student s
+        WHERE NOT EXISTS (SELECT 1 FROM Fees f WHERE f.student_id = s.student_id AND f.due_date = ?2)
         """, nativeQuery = true)
-    int updateFees(Integer studentId, Double amount, String dueDate, String paidDate, String status, String paymentMode);
+    int insertMonthlyFeesForAllStudents(Double amount, LocalDate dueDate);
+
+    // ===== LEDGER QUERIES (served by idx_fees_student_due / idx_fees_status_due) =====
+    @Query(value = "SELECT * FROM Fees WHERE student_id = ?1 ORDER BY due_date DESC", nativeQuery = true)
+    List<Fees> findByStudentId(Integer studentId);
+
+    @Query(value = "SELECT * FROM Fees WHERE fee_id = ?1", nativeQuery = true)
+    Optional<Fees> findByFeeId(Integer feeId);
+
+    // Locks the row so its old status and amount stay valid until the update commits.
+    @Query(value = "SELECT * FROM Fees WHERE fee_id = ?1 FOR UPDATE", nativeQuery = true)
+    Optional<Fees> lockByFeeId(Integer feeId);
 
-    @Query(value = "SELECT SUM(amount) FROM Fees WHERE status = 'PENDING'", nativeQuery = true)
-    double getPendingFees();
+    @Query(value = "SELECT * FROM Fees WHERE student_id = ?1 ORDER BY due_date DESC, fee_id DESC",
+           countQuery = "SELECT COUNT(*) FROM Fees WHERE student_id = ?1",
+           nativeQuery = true)
+    Page<Fees> findHistoryByStudentId(Integer studentId, Pageable pageable);
 
-    @Query(value = "SELECT SUM(amount) FROM Fees WHERE status = 'PAID'", nativeQuery = true)
-    double getPaidFees();
+    @Query(value = "SELECT * FROM Fees WHERE due_date BETWEEN ?1 AND ?2 ORDER BY due_date, fee_id",
+           countQuery = "SELECT COUNT(*) FROM Fees WHERE due_date BETWEEN ?1 AND ?2",
+           nativeQuery = true)
+    Page<Fees> findDueBetween(LocalDate from, LocalDate to, Pageable pageable);
 
-    @Query(value = "SELECT SUM(amount) FROM Fees", nativeQuery = true)
-    double getTotalFees();
+    @Query(value = "SELECT * FROM Fees WHERE status = 'PENDING' AND due_date < ?1 ORDER BY due_date, fee_id",
+           countQuery = "SELECT COUNT(*) FROM Fees WHERE status = 'PENDING' AND due_date < ?1",
+           nativeQuery = true)
+    Page<Fees> findOverdueAsOf(LocalDate asOf, Pageable pageable);
 
-    @Query(value = "SELECT COUNT(*) FROM Fees WHERE status = 'PENDING'", nativeQuery = true)
-    Long countPendingFees();
+    @Modifying
+    @Query(value = """
+        UPDATE Fees
+        SET amount = ?2, due_date = ?3, paid_date = ?4, status = ?5, payment_mode = ?6
+        WHERE fee_id = ?1
+        """, nativeQuery = true)
+    int updateFeeById(Integer feeId, Double amount, LocalDate dueDate, LocalDate paidDate, String status, String paymentMode);
 
-    @Query(value = "SELECT COUNT(*) FROM Fees WHERE status = 'PAID'", nativeQuery = true)
-    Long countPaidFees();
+    // Per-status count and amount; feeds the fee_aggregates reconciliation pass.
+    @Query(value = "SELECT status, COUNT(*), COALESCE(SUM(amount), 0) FROM Fees GROUP BY status", nativeQuery = true)
+    List<Object[]> getTotalsByStatus();
 
-    @Query(value = "SELECT COUNT(*) FROM Fees", nativeQuery = true)
-    Long countTotalFees();
+    // One student's (status, amount) rows, locked so no other writer can change them between
+    // this read and the caller's update or delete. Used to compute aggregate deltas.
+    @Query(value = "SELECT status, amount FROM Fees WHERE student_id = ?1 FOR UPDATE", nativeQuery = true)
+    List<Object[]> lockStatusAmountsForStudent(Integer studentId);
 
     @Query(value ="SELECT s.student_id AS studentId, s.name AS Name, r.room_no AS roomNo, f.amount AS fee,  f.status AS feeStatus FROM student s LEFT JOIN rooms r ON s.room_id = r.room_id LEFT JOIN fees f ON s.student_id = f.student_id", nativeQuery = true)
     List<Object[]> getFeeInfo();
     
+    // Keyset page of the fee table: rows after (afterStudentId, afterFeeId) in (student_id, fee_id) order.
+    // A student with several fee rows can straddle a page boundary, hence the fee_id tie-breaker.
+    @Query(value = """
+        SELECT s.student_id AS studentId, s.name AS Name, r.room_no AS roomNo, f.amount AS fee, f.status AS feeStatus,
+               f.fee_id AS feeId
+        FROM student s
+        LEFT JOIN rooms r ON s.room_id = r.room_id
+        LEFT JOIN fees f ON s.student_id = f.student_id
+        WHERE (s.student_id > ?1 OR (s.student_id = ?1 AND COALESCE(f.fee_id, 0) > ?2))
+          AND (?3 IS NULL OR f.status = ?3)
+          AND (?4 IS NULL OR r.room_no = ?4)
+        ORDER BY s.student_id, f.fee_id
+        LIMIT ?5
+        """, nativeQuery = true)
+    List<Object[]> getFeeInfoPage(Integer afterStudentId, Integer afterFeeId, String status, String roomNo, int limit);
+
+    // Same rows as getFeeInfoPage without a limit, fetched through a cursor for exports.
+    // Must be consumed inside a transaction and closed.
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(value = """
+        SELECT s.student_id AS studentId, s.name AS Name, r.room_no AS roomNo, f.amount AS fee, f.status AS feeStatus
+        FROM student s
+        LEFT JOIN rooms r ON s.room_id = r.room_id
+        LEFT JOIN fees f ON s.student_id = f.student_id
+        WHERE (?1 IS NULL OR f.status = ?1)
+          AND (?2 IS NULL OR r.room_no = ?2)
+        ORDER BY s.student_id, f.fee_id
+        """, nativeQuery = true)
+    Stream<Object[]> streamFeeInfo(String status, String roomNo);
+
+    // Overdue aging as of ?1, grouped by floor, course and year in one pass.
+    // ?2, ?3, ?4 are the 30/60/90-day cutoffs (asOf minus N days), computed by the caller
+    // so the bucketing is plain date comparison rather than a dialect-specific DATEDIFF.
+    @Query(value = """
+        SELECT r.floor, s.course, s.year,
+               SUM(CASE WHEN f.due_date >= ?2 THEN 1 ELSE 0 END),
+               COALESCE(SUM(CASE WHEN f.due_date >= ?2 THEN f.amount ELSE 0 END), 0),
+               SUM(CASE WHEN f.due_date < ?2 AND f.due_date >= ?3 THEN 1 ELSE 0 END),
+               COALESCE(SUM(CASE WHEN f.due_date < ?2 AND f.due_date >= ?3 THEN f.amount ELSE 0 END), 0),
+               SUM(CASE WHEN f.due_date < ?3 AND f.due_date >= ?4 THEN 1 ELSE 0 END),
+               COALESCE(SUM(CASE WHEN f.due_date < ?3 AND f.due_date >= ?4 THEN f.amount ELSE 0 END), 0),
+               SUM(CASE WHEN f.due_date < ?4 THEN 1 ELSE 0 END),
+               COALESCE(SUM(CASE WHEN f.due_date < ?4 THEN f.amount ELSE 0 END), 0)
+        FROM Fees f
+        JOIN Student s ON s.student_id = f.student_id
+        LEFT JOIN Rooms r ON s.room_id = r.room_id
+        WHERE f.status = 'PENDING' AND f.due_date < ?1
+        GROUP BY r.floor, s.course, s.year
+        """, nativeQuery = true)
+    List<Object[]> getOverdueAging(LocalDate asOf, LocalDate cutoff30, LocalDate cutoff60, LocalDate cutoff90);
+
     @Modifying
     @Query(value = "DELETE FROM Fees WHERE student_id = ?1", nativeQuery = true)
     int deleteByStudentId(Integer studentId);
@@ -0,0 +1,112 @@
+package com.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.dto.MealForecast;
+
+/**
+ * JDBC access to the forecast statistics and the precomputed forecasts.
+ */
+@Repository
+public class MealForecastRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MealForecastRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record Stat(String mealType, String bucket, long samples, double mean, double m2) {}
+
+    // ===== SELECT OPERATIONS =====
+    // All statistics, locked until commit so overlapping runs cannot fold a day twice.
+    public List<Stat> lockStats() {
+        return jdbcTemplate.query(
+            "SELECT meal_type, bucket, samples, mean, m2 FROM mess_forecast_stats ORDER BY meal_type, bucket FOR UPDATE",
+            (rs, i) -> new Stat(rs.getString("meal_type"), rs.getString("bucket"), rs.getLong("samples"),
+                    rs.getDouble("mean"), rs.getDouble("m2")));
+    }
+
+    // Last day folded into the statistics, or null before the first run.
+    public LocalDate findFoldedThrough() {
+        return jdbcTemplate.queryForObject("SELECT MAX(folded_through) FROM mess_forecast_stats", LocalDate.class);
+    }
+
+    // Students with a room, i.e. who eat in the mess.
+    public int countResidents() {
+        Integer residents = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM Student WHERE room_id IS NOT NULL", Integer.class);
+        return residents == null ? 0 : residents;
+    }
+
+    public List<MealForecast> findForecasts(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("""
+            SELECT forecast_date, meal_type, holiday, residents, registered_skips, expected_skips,
+                   expected_headcount, headcount_low, headcount_high, samples, generated_at
+            FROM mess_headcount_forecasts
+            WHERE forecast_date BETWEEN ? AND ?
+            ORDER BY forecast_date, CASE meal_type WHEN 'Breakfast' THEN 0 WHEN 'Lunch' THEN 1 ELSE 2 END
+            """,
+            (rs, i) -> new MealForecast(rs.getObject("forecast_date", LocalDate.class), rs.getString("meal_type"),
+                    rs.getBoolean("holiday"), rs.getInt("residents"), rs.getInt("registered_skips"),
+                    rs.getInt("expected_skips"), rs.getInt("expected_headcount"), rs.getInt("headcount_low"),
+                    rs.getInt("headcount_high"), rs.getLong("samples"),
+                    rs.getObject("generated_at", LocalDateTime.class)),
+            Date.valueOf(from), Date.valueOf(to));
+    }
+
+    // ===== INSERT / UPDATE OPERATIONS =====
+    // Rewrites every statistic; all of them move to the same folded_through.
+    public void replaceStats(List<Stat> stats, LocalDate foldedThrough) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("DELETE FROM mess_forecast_stats");
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO mess_forecast_stats (meal_type, bucket, samples, mean, m2, folded_through, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """,
+            stats,
+            stats.size(),
+            (ps, s) -> {
+                ps.setString(1, s.mealType());
+                ps.setString(2, s.bucket());
+                ps.setLong(3, s.samples());
+                ps.setDouble(4, s.mean());
+                ps.setDouble(5, s.m2());
+                ps.setDate(6, Date.valueOf(foldedThrough));
+                ps.setTimestamp(7, now);
+            });
+    }
+
+    // Replaces the forecasts for the days covered by the list.
+    public void replaceForecasts(LocalDate from, LocalDate to, List<MealForecast> forecasts) {
+        jdbcTemplate.update("DELETE FROM mess_headcount_forecasts WHERE forecast_date BETWEEN ? AND ?",
+                Date.valueOf(from), Date.valueOf(to));
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO mess_headcount_forecasts (forecast_date, meal_type, holiday, residents, registered_skips,
+                expected_skips, expected_headcount, headcount_low, headcount_high, samples, generated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """,
+            forecasts,
+            forecasts.size(),
+            (ps, f) -> {
+                ps.setDate(1, Date.valueOf(f.date()));
+                ps.setString(2, f.mealType());
+                ps.setBoolean(3, f.holiday());
+                ps.setInt(4, f.residents());
+                ps.setInt(5, f.registeredSkips());
+                ps.setInt(6, f.expectedSkips());
+                ps.setInt(7, f.expectedHeadcount());
+                ps.setInt(8, f.headcountLow());
+                ps.setInt(9, f.headcountHigh());
+                ps.setLong(10, f.samples());
+                ps.setTimestamp(11, Timestamp.valueOf(f.generatedAt()));
+            });
+    }
+}
@@ -26,8 +26,9 @@ public interface MessMenuRepository extends JpaRepository<MessMenu, Long> {
         """, nativeQuery = true)
     int updateMenu(Integer menuId, String day, String mealType, Double price, String items);
 
+    // One row per meal of the day.
     @Query(value = "SELECT * FROM MessMenu WHERE day = ?1", nativeQuery = true)
-    MessMenu findByDay(String day);
+    List<MessMenu> findByDay(String day);
 
     @Query(value = "SELECT * FROM MessMenu", nativeQuery = true)
     List<MessMenu> findAllMenus();
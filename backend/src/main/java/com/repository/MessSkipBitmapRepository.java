@@ -0,0 +1,123 @@
+package com.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access to mess_skip_bitmaps, one compressed bitmap per (date, meal).
+ */
+@Repository
+public class MessSkipBitmapRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public MessSkipBitmapRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    public record StoredBitmap(LocalDate date, String mealType, byte[] bits, int skippedCount, long version) {}
+
+    public record BitmapKey(LocalDate date, String mealType) {}
+
+    // ===== SELECT OPERATIONS =====
+    // Every bitmap, unlocked; writers are not held up while the store loads.
+    public List<StoredBitmap> findAll() {
+        return jdbcTemplate.query("""
+            SELECT skip_date, meal_type, student_bits, skipped_count, version FROM mess_skip_bitmaps
+            """,
+            (rs, i) -> stored(rs.getObject("skip_date", LocalDate.class), rs.getString("meal_type"),
+                    rs.getBytes("student_bits"), rs.getInt("skipped_count"), rs.getLong("version")));
+    }
+
+    // Every bitmap, locked until commit so writers wait for a full rewrite.
+    public List<StoredBitmap> lockAll() {
+        return jdbcTemplate.query("""
+            SELECT skip_date, meal_type, student_bits, skipped_count, version FROM mess_skip_bitmaps
+            ORDER BY skip_date, meal_type
+            FOR UPDATE
+            """,
+            (rs, i) -> stored(rs.getObject("skip_date", LocalDate.class), rs.getString("meal_type"),
+                    rs.getBytes("student_bits"), rs.getInt("skipped_count"), rs.getLong("version")));
+    }
+
+    // The given bitmaps that exist, locked until commit.
+    public List<StoredBitmap> lock(Collection<BitmapKey> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> pairs = new ArrayList<>(keys.size());
+        for (BitmapKey key : keys) {
+            pairs.add(new Object[]{Date.valueOf(key.date()), key.mealType()});
+        }
+        return namedJdbcTemplate.query("""
+            SELECT skip_date, meal_type, student_bits, skipped_count, version FROM mess_skip_bitmaps
+            WHERE (skip_date, meal_type) IN (:keys)
+            ORDER BY skip_date, meal_type
+            FOR UPDATE
+            """,
+            Map.of("keys", pairs),
+            (rs, i) -> stored(rs.getObject("skip_date", LocalDate.class), rs.getString("meal_type"),
+                    rs.getBytes("student_bits"), rs.getInt("skipped_count"), rs.getLong("version")));
+    }
+
+    // ===== INSERT / UPDATE OPERATIONS =====
+    // Creates the bitmaps that do not exist yet; a row another transaction
+    // inserted meanwhile is left alone.
+    public int[] insertMissing(List<StoredBitmap> bitmaps) {
+        if (bitmaps.isEmpty()) {
+            return new int[0];
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.batchUpdate("""
+            INSERT IGNORE INTO mess_skip_bitmaps (skip_date, meal_type, student_bits, skipped_count, version, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """,
+            bitmaps,
+            bitmaps.size(),
+            (ps, b) -> {
+                ps.setDate(1, Date.valueOf(b.date()));
+                ps.setString(2, b.mealType());
+                ps.setBytes(3, b.bits());
+                ps.setInt(4, b.skippedCount());
+                ps.setLong(5, b.version());
+                ps.setTimestamp(6, now);
+            })[0];
+    }
+
+    public int[] update(List<StoredBitmap> bitmaps) {
+        if (bitmaps.isEmpty()) {
+            return new int[0];
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.batchUpdate("""
+            UPDATE mess_skip_bitmaps SET student_bits = ?, skipped_count = ?, version = ?, updated_at = ?
+            WHERE skip_date = ? AND meal_type = ?
+            """,
+            bitmaps,
+            bitmaps.size(),
+            (ps, b) -> {
+                ps.setBytes(1, b.bits());
+                ps.setInt(2, b.skippedCount());
+                ps.setLong(3, b.version());
+                ps.setTimestamp(4, now);
+                ps.setDate(5, Date.valueOf(b.date()));
+                ps.setString(6, b.mealType());
+            })[0];
+    }
+
+    private static StoredBitmap stored(LocalDate date, String mealType, byte[] bits, int skippedCount, long version) {
+        return new StoredBitmap(date, mealType, bits, skippedCount, version);
+    }
+}
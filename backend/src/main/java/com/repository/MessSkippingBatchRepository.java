@@ -0,0 +1,126 @@
+package com.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC batch operations on MessSkipping for multi-day and multi-student skips.
+ */
+@Repository
+public class MessSkippingBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public MessSkippingBatchRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    public record SkipRow(Integer skipId, Integer studentId, LocalDate date, String mealType, Boolean skipped) {}
+
+    public record NewSkip(Integer studentId, LocalDate date, String mealType) {}
+
+    public record StudentContact(Integer studentId, String name, String floor, String roomNo, String contactNo) {}
+
+    // ===== SELECT OPERATIONS =====
+    // Existing rows in the range, locked until commit so overlapping batches queue up.
+    public List<SkipRow> lockRows(Collection<Integer> studentIds, LocalDate from, LocalDate to,
+                                  Collection<String> mealTypes) {
+        if (studentIds.isEmpty() || mealTypes.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.query("""
+            SELECT skip_id, student_id, date, meal_type, skipped FROM MessSkipping
+            WHERE date BETWEEN :from AND :to AND meal_type IN (:meals) AND student_id IN (:ids)
+            FOR UPDATE
+            """,
+            Map.of("from", Date.valueOf(from), "to", Date.valueOf(to), "meals", mealTypes, "ids", studentIds),
+            (rs, i) -> new SkipRow(rs.getInt("skip_id"), rs.getInt("student_id"),
+                    rs.getObject("date", LocalDate.class), rs.getString("meal_type"),
+                    rs.getObject("skipped", Boolean.class)));
+    }
+
+    public List<Integer> findExistingStudentIds(Collection<Integer> studentIds) {
+        if (studentIds.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.queryForList("SELECT student_id FROM Student WHERE student_id IN (:ids)",
+                Map.of("ids", studentIds), Integer.class);
+    }
+
+    public List<Integer> findStudentIdsOnFloor(String floor) {
+        return jdbcTemplate.queryForList("""
+            SELECT s.student_id FROM Student s JOIN Rooms r ON r.room_id = s.room_id
+            WHERE r.floor = ? ORDER BY s.student_id
+            """, Integer.class, floor);
+    }
+
+    // Streams every (student, day, meal) currently marked as skipped.
+    public boolean anySkipped() {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM MessSkipping WHERE skipped = TRUE LIMIT 1",
+                Integer.class).isEmpty();
+    }
+
+    public void forEachSkipped(Consumer<NewSkip> action) {
+        jdbcTemplate.query("SELECT student_id, date, meal_type FROM MessSkipping WHERE skipped = TRUE",
+            rs -> {
+                action.accept(new NewSkip(rs.getInt("student_id"), rs.getObject("date", LocalDate.class),
+                        rs.getString("meal_type")));
+            });
+    }
+
+    // Name, room and phone per student; floor and room_no are null for students without a room.
+    public List<StudentContact> findStudentContacts(Collection<Integer> studentIds) {
+        if (studentIds.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.query("""
+            SELECT s.student_id, s.name, r.floor, r.room_no, s.contact_no
+            FROM Student s LEFT JOIN Rooms r ON r.room_id = s.room_id
+            WHERE s.student_id IN (:ids)
+            """,
+            Map.of("ids", studentIds),
+            (rs, i) -> new StudentContact(rs.getInt("student_id"), rs.getString("name"), rs.getString("floor"),
+                    rs.getString("room_no"), rs.getString("contact_no")));
+    }
+
+    // ===== INSERT / UPDATE OPERATIONS =====
+    public int[] insertSkips(List<NewSkip> skips, boolean skipped) {
+        if (skips.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(
+            "INSERT INTO MessSkipping (student_id, date, meal_type, skipped) VALUES (?, ?, ?, ?)",
+            skips,
+            skips.size(),
+            (ps, skip) -> {
+                ps.setInt(1, skip.studentId());
+                ps.setDate(2, Date.valueOf(skip.date()));
+                ps.setString(3, skip.mealType());
+                ps.setBoolean(4, skipped);
+            })[0];
+    }
+
+    public int[] updateSkipped(List<Integer> skipIds, boolean skipped) {
+        if (skipIds.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(
+            "UPDATE MessSkipping SET skipped = ? WHERE skip_id = ?",
+            skipIds,
+            skipIds.size(),
+            (ps, skipId) -> {
+                ps.setBoolean(1, skipped);
+                ps.setInt(2, skipId);
+            })[0];
+    }
+}
@@ -5,8 +5,8 @@ import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
+import java.sql.Date;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -38,24 +38,27 @@ public interface MessSkippingRepository extends JpaRepository<MessSkipping, Long
     @Query(value = "SELECT * FROM MessSkipping", nativeQuery = true)
     List<MessSkipping> findAllSkipRecords();
 
-    @Query(value = "SELECT s.name, m.meal_type, r.floor, r.room_no,s.contact_no FROM student s, messskipping m, rooms r WHERE s.student_id = m.student_id AND s.room_id = r.room_id AND m.date = ?1 AND m.skipped IS NULL", nativeQuery = true)
-List<Object[]> getSkippedStudentsByDate(@Param("date") LocalDate date);
-
-
-
-   @Query(value = "select count(*) from messskipping where date = '2025-10-15' and meal_type = 'Breakfast'", nativeQuery = true)
-Integer countSkippedBreakfast();
-
-@Query(value = "select count(*) from messskipping where date = '2025-10-15' and meal_type = 'Dinner' and skipped IS NULL", nativeQuery = true)
-Integer countSkippedDinner();
-
-@Query(value = "select count(*) from messskipping where date = '2025-10-15' and meal_type = 'Lunch' and skipped IS NULL", nativeQuery = true)
-Integer countSkippedLunch();
+    // Days on which setting skipped would change whether the meal counts as skipped.
+    // The rows stay locked until commit, so concurrent updates see each other's result.
+    @Query(value = """
+        SELECT date FROM MessSkipping
+        WHERE student_id = ?2 AND meal_type = ?3 AND COALESCE(skipped, FALSE) <> ?1
+        FOR UPDATE
+        """, nativeQuery = true)
+    List<Date> lockSkipChanges(Boolean skipped, Integer studentId, String mealType);
 
-@Modifying
-@Query(value = "UPDATE messskipping SET skipped = ?1 WHERE student_id = ?2 and meal_type= ?3", nativeQuery = true)
-int updateSkippedByStudentId(Boolean skipped, Integer studentId,String mealType);
+    @Query(value = """
+        SELECT date FROM MessSkipping
+        WHERE student_id = ?2 AND meal_type = ?3 AND date = ?4 AND COALESCE(skipped, FALSE) <> ?1
+        FOR UPDATE
+        """, nativeQuery = true)
+    List<Date> lockSkipChangesOn(Boolean skipped, Integer studentId, String mealType, LocalDate date);
 
+    @Modifying
+    @Query(value = "UPDATE MessSkipping SET skipped = ?1 WHERE student_id = ?2 and meal_type= ?3", nativeQuery = true)
+    int updateSkippedByStudentId(Boolean skipped, Integer studentId,String mealType);
 
-    
+    @Modifying
+    @Query(value = "UPDATE MessSkipping SET skipped = ?1 WHERE student_id = ?2 AND meal_type = ?3 AND date = ?4", nativeQuery = true)
+    int updateSkippedByStudentIdOn(Boolean skipped, Integer studentId, String mealType, LocalDate date);
 }
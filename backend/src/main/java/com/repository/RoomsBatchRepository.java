@@ -0,0 +1,48 @@
+package com.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC batch operations on Rooms used by the occupancy reconcile.
+ */
+@Repository
+public class RoomsBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RoomsBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // The recount for one room and the stored values it was computed against.
+    public record OccupancyCorrection(Integer roomId, int occupants, String status, Integer storedOccupants,
+                                      String storedStatus) {}
+
+    // ===== UPDATE OPERATIONS =====
+    // Writes every recount in one batch, each only while its room still holds the stored
+    // values the recount read. Returns one count per correction: 0 means the room changed
+    // meanwhile and is left to the next run.
+    public int[] correctOccupancy(List<OccupancyCorrection> corrections) {
+        if (corrections.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate("""
+            UPDATE Rooms SET current_occupants = ?, status = ?
+            WHERE room_id = ?
+              AND COALESCE(current_occupants, -1) = ?
+              AND COALESCE(status, '') = ?
+            """,
+            corrections,
+            corrections.size(),
+            (ps, c) -> {
+                ps.setInt(1, c.occupants());
+                ps.setString(2, c.status());
+                ps.setInt(3, c.roomId());
+                ps.setInt(4, c.storedOccupants() == null ? -1 : c.storedOccupants());
+                ps.setString(5, c.storedStatus() == null ? "" : c.storedStatus());
+            })[0];
+    }
+}
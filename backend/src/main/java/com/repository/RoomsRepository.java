@@ -1,5 +1,6 @@
 package com.repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -30,6 +31,54 @@ public interface RoomsRepository extends JpaRepository<Rooms, Integer> {
     @Query(value = "SELECT * FROM Rooms", nativeQuery = true)
     List<Rooms> findAllRooms();
 
+    // Availability columns of every room (or one room), read without loading managed entities.
+    @Query(value = "SELECT room_id AS roomId, room_no AS roomNo, room_type AS roomType, floor AS floor, monthly_rent AS monthlyRent, current_occupants AS currentOccupants, capacity AS capacity, status AS status FROM Rooms", nativeQuery = true)
+    List<RoomAvailabilityView> findAvailabilityRows();
+
+    @Query(value = "SELECT room_id AS roomId, room_no AS roomNo, room_type AS roomType, floor AS floor, monthly_rent AS monthlyRent, current_occupants AS currentOccupants, capacity AS capacity, status AS status FROM Rooms WHERE room_id = ?1", nativeQuery = true)
+    Optional<RoomAvailabilityView> findAvailabilityRow(Integer roomId);
+
+    interface RoomAvailabilityView {
+        Integer getRoomId();
+        String getRoomNo();
+        String getRoomType();
+        String getFloor();
+        BigDecimal getMonthlyRent();
+        Integer getCurrentOccupants();
+        Integer getCapacity();
+        String getStatus();
+    }
+
+    // Rooms whose stored occupants or status disagree with Student.room_id, with the
+    // corrected values. Only 'available'/'occupied' (or missing) statuses are recomputed.
+    @Query(value = """
+        SELECT r.room_id AS roomId, r.room_no AS roomNo,
+               r.current_occupants AS storedOccupants, COALESCE(c.residents, 0) AS actualOccupants,
+               r.status AS storedStatus,
+               CASE WHEN COALESCE(r.status, 'available') NOT IN ('available', 'occupied') THEN r.status
+                    WHEN r.capacity > 0 AND COALESCE(c.residents, 0) >= r.capacity THEN 'occupied'
+                    ELSE 'available' END AS status
+        FROM Rooms r
+        LEFT JOIN (SELECT room_id, COUNT(*) AS residents FROM Student
+                   WHERE room_id IS NOT NULL GROUP BY room_id) c ON c.room_id = r.room_id
+        WHERE COALESCE(r.current_occupants, -1) <> COALESCE(c.residents, 0)
+           OR COALESCE(r.status, '') <>
+              CASE WHEN COALESCE(r.status, 'available') NOT IN ('available', 'occupied') THEN r.status
+                   WHEN r.capacity > 0 AND COALESCE(c.residents, 0) >= r.capacity THEN 'occupied'
+                   ELSE 'available' END
+        ORDER BY r.room_id
+        """, nativeQuery = true)
+    List<RoomOccupancyDriftView> findOccupancyDrift();
+
+    interface RoomOccupancyDriftView {
+        Integer getRoomId();
+        String getRoomNo();
+        Integer getStoredOccupants();
+        Integer getActualOccupants();
+        String getStoredStatus();
+        String getStatus();
+    }
+
     @Query(value = "SELECT capacity FROM Rooms WHERE room_Id=?1", nativeQuery = true)
     Integer findCapacityByRoomId(Integer roomId);
 
@@ -41,6 +90,35 @@ public interface RoomsRepository extends JpaRepository<Rooms, Integer> {
     List<Object []> findAvailableRooms();
 
     // ===== UPDATE OPERATIONS =====
+    // Takes one seat if the room has one free (capacity 0 = no limit) and marks the
+    // room occupied when that was the last seat. The row lock taken by the UPDATE
+    // serializes concurrent reservations, so 0 rows means full or unknown room.
+    // status is assigned first because MySQL evaluates SET left to right.
+    @Modifying
+    @Query(value = """
+        UPDATE Rooms
+        SET status = CASE WHEN capacity > 0 AND COALESCE(current_occupants, 0) + 1 >= capacity
+                          THEN 'occupied' ELSE status END,
+            current_occupants = COALESCE(current_occupants, 0) + 1
+        WHERE room_id = ?1
+          AND (capacity IS NULL OR capacity = 0 OR COALESCE(current_occupants, 0) < capacity)
+        """, nativeQuery = true)
+    int reserveSeat(Integer roomId);
+
+    // Gives one seat back and reopens an 'occupied' room that now has a free seat.
+    // Never drops below zero; 0 rows means the room is unknown or already empty.
+    @Modifying
+    @Query(value = """
+        UPDATE Rooms
+        SET status = CASE WHEN status = 'occupied'
+                               AND (capacity IS NULL OR capacity = 0 OR current_occupants - 1 < capacity)
+                          THEN 'available' ELSE status END,
+            current_occupants = current_occupants - 1
+        WHERE room_id = ?1
+          AND current_occupants > 0
+        """, nativeQuery = true)
+    int releaseSeat(Integer roomId);
+
     @Modifying
     @Query(value = "UPDATE Rooms SET current_occupants = ?1 WHERE room_id = ?2", nativeQuery = true)
     int updateOccupants(Integer currentOccupants, Integer roomId);
@@ -0,0 +1,119 @@
+package com.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC batch operations on Student used by the bulk admission import.
+ */
+@Repository
+public class StudentBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public StudentBatchRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    // Enum columns are passed by name, as @Enumerated(EnumType.STRING) stores them.
+    public record NewStudent(String collegeId, String name, String gender, LocalDate dob, String course,
+                             String stream, String year, String email, String contactNo, String address,
+                             String guardianName, String guardianContact, String parentName,
+                             String parentContact) {}
+
+    // The unique indexes on email and college_id compare case-insensitively, so every
+    // key returned from here is lowercased with normalize() to match them.
+    public static String normalize(String key) {
+        return key == null ? null : key.toLowerCase(Locale.ROOT);
+    }
+
+    // ===== SELECT OPERATIONS =====
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> known = new HashSet<>();
+        for (String email : namedJdbcTemplate.queryForList(
+                "SELECT email FROM Student WHERE email IN (:emails)",
+                Map.of("emails", emails), String.class)) {
+            known.add(normalize(email));
+        }
+        return known;
+    }
+
+    public Set<String> findExistingCollegeIds(Collection<String> collegeIds) {
+        if (collegeIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> known = new HashSet<>();
+        for (String collegeId : namedJdbcTemplate.queryForList(
+                "SELECT college_id FROM Student WHERE college_id IN (:ids)",
+                Map.of("ids", collegeIds), String.class)) {
+            known.add(normalize(collegeId));
+        }
+        return known;
+    }
+
+    // normalized email -> student_id, used to report the ids of freshly inserted rows
+    public Map<String, Integer> findIdsByEmail(Collection<String> emails) {
+        Map<String, Integer> ids = new HashMap<>();
+        if (emails.isEmpty()) {
+            return ids;
+        }
+        namedJdbcTemplate.query(
+            "SELECT student_id, email FROM Student WHERE email IN (:emails)",
+            Map.of("emails", emails),
+            rs -> {
+                ids.put(normalize(rs.getString("email")), rs.getInt("student_id"));
+            });
+        return ids;
+    }
+
+    // ===== INSERT OPERATIONS =====
+    // New admissions start with the same defaults as a single registration.
+    public void insertStudents(List<NewStudent> students) {
+        LocalDate today = LocalDate.now();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO Student (college_id, name, gender, dob, admission_date, course, stream, year, email,
+                                 contact_no, address, guardian_name, guardian_contact, parent_name,
+                                 parent_contact, admission_fee, password, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE, 'defaultPassword', ?)
+            """,
+            students,
+            students.size(),
+            (ps, s) -> {
+                ps.setString(1, s.collegeId());
+                ps.setString(2, s.name());
+                ps.setString(3, s.gender());
+                ps.setDate(4, s.dob() == null ? null : Date.valueOf(s.dob()));
+                ps.setDate(5, Date.valueOf(today));
+                ps.setString(6, s.course());
+                ps.setString(7, s.stream());
+                ps.setString(8, s.year());
+                ps.setString(9, s.email());
+                ps.setString(10, s.contactNo());
+                ps.setString(11, s.address());
+                ps.setString(12, s.guardianName());
+                ps.setString(13, s.guardianContact());
+                ps.setString(14, s.parentName());
+                ps.setString(15, s.parentContact());
+                ps.setTimestamp(16, now);
+            });
+    }
+}
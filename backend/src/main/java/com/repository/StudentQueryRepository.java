@@ -0,0 +1,111 @@
+package com.repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.dto.StudentTableRow;
+
+/**
+ * Admin student table queries with dynamic filters and sorting, mapped straight
+ * into {@link StudentTableRow} records (no Object[] or per-row map).
+ */
+@Repository
+public class StudentQueryRepository {
+
+    // API sort key -> SQL expression; anything else is rejected
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "name", "s.name",
+            "studentId", "s.student_id",
+            "roomNo", "r.room_no",
+            "admissionDate", "s.admission_date",
+            "fee", "f.amount",
+            "feeStatus", "f.status");
+
+    // Latest fee row per student, so a multi-month ledger still yields one row per student
+    private static final String FROM = """
+        FROM Student s
+        LEFT JOIN Rooms r ON s.room_id = r.room_id
+        LEFT JOIN Fees f ON f.fee_id = (SELECT MAX(f2.fee_id) FROM Fees f2 WHERE f2.student_id = s.student_id)
+        """;
+
+    private static final RowMapper<StudentTableRow> ROW_MAPPER = StudentQueryRepository::mapRow;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public StudentQueryRepository(NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    public record StudentTableFilter(String feeStatus, String roomNo, LocalDate admittedFrom, LocalDate admittedTo) {}
+
+    public static boolean isSortable(String sort) {
+        return SORT_COLUMNS.containsKey(sort);
+    }
+
+    public List<StudentTableRow> findPage(StudentTableFilter filter, String sort, boolean ascending,
+                                          int offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = "SELECT s.name, s.student_id, r.room_no, s.admission_date, f.amount, f.status "
+                + FROM + where(filter, params)
+                + " ORDER BY " + SORT_COLUMNS.getOrDefault(sort, "s.student_id") + (ascending ? " ASC" : " DESC")
+                + ", s.student_id LIMIT :limit OFFSET :offset";
+        params.addValue("limit", limit).addValue("offset", offset);
+        return namedJdbcTemplate.query(sql, params, ROW_MAPPER);
+    }
+
+    public List<StudentTableRow> findAll() {
+        return namedJdbcTemplate.query(
+                "SELECT s.name, s.student_id, r.room_no, s.admission_date, f.amount, f.status " + FROM
+                        + " ORDER BY s.student_id",
+                ROW_MAPPER);
+    }
+
+    public long count(StudentTableFilter filter) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        Long total = namedJdbcTemplate.queryForObject("SELECT COUNT(*) " + FROM + where(filter, params),
+                params, Long.class);
+        return total == null ? 0 : total;
+    }
+
+    private static String where(StudentTableFilter filter, MapSqlParameterSource params) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        if (filter.feeStatus() != null) {
+            where.append(" AND f.status = :feeStatus");
+            params.addValue("feeStatus", filter.feeStatus());
+        }
+        if (filter.roomNo() != null) {
+            where.append(" AND r.room_no = :roomNo");
+            params.addValue("roomNo", filter.roomNo());
+        }
+        if (filter.admittedFrom() != null) {
+            where.append(" AND s.admission_date >= :admittedFrom");
+            params.addValue("admittedFrom", Date.valueOf(filter.admittedFrom()));
+        }
+        if (filter.admittedTo() != null) {
+            where.append(" AND s.admission_date <= :admittedTo");
+            params.addValue("admittedTo", Date.valueOf(filter.admittedTo()));
+        }
+        return where.toString();
+    }
+
+    private static StudentTableRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Date admission = rs.getDate(4);
+        Number fee = (Number) rs.getObject(5);
+        return new StudentTableRow(
+                rs.getString(1),
+                rs.getInt(2),
+                rs.getString(3),
+                admission == null ? null : admission.toLocalDate(),
+                fee == null ? null : fee.doubleValue(),
+                rs.getString(6));
+    }
+}
@@ -1,5 +1,6 @@
 package com.repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -32,12 +33,26 @@ public interface StudentRepository extends JpaRepository<Student, Integer> {
     @Query(value = "SELECT * FROM Student WHERE email = ?1", nativeQuery = true)
     Optional<Student> findByEmail(String email);
     
+    // Slim lookup for login: only the columns needed to check credentials and issue a token.
+    @Query(value = "SELECT student_id AS studentId, name AS name, password AS password FROM Student WHERE email = ?1", nativeQuery = true)
+    Optional<StudentCredentials> findCredentialsByEmail(String email);
+
+    interface StudentCredentials {
+        Integer getStudentId();
+        String getName();
+        String getPassword();
+    }
+
     @Query(value = "SELECT * FROM Student WHERE student_id = ?1", nativeQuery = true)
     Optional<Student> findById(Integer studentId);
     
     @Query(value = "SELECT * FROM Student", nativeQuery = true)
     List<Student> findAllStudents();
     
+    // Only the searchable columns, for building the in-memory search index
+    @Query(value = "SELECT student_id, name, college_id, email, contact_no FROM Student", nativeQuery = true)
+    List<Object[]> findSearchFields();
+
     @Query(value = "SELECT COUNT(*) FROM Student", nativeQuery = true)
     Long countAllStudents();
     
@@ -57,6 +72,37 @@ public interface StudentRepository extends JpaRepository<Student, Integer> {
     @Query(value = "SELECT s.student_id, s.name, s.college_id, s.gender, s.dob, s.admission_date, s.email, s.contact_no, s.parent_name, s.parent_contact, s.guardian_name, s.guardian_contact, s.address, s.course, s.stream, s.year, r.room_no, r.floor,r.monthly_rent FROM Student s LEFT JOIN Rooms r ON s.room_id = r.room_id WHERE s.student_id = ?1", nativeQuery = true)
     Optional<Object[]> getPersonalDataByStudentById(Integer studentId);
 
+    // Personal data plus room for the cached admin profile; roommates are read separately.
+    @Query(value = "SELECT s.student_id AS studentId, s.name AS name, s.college_id AS collegeId, s.gender AS gender, s.dob AS dob, s.admission_date AS admissionDate, s.email AS email, s.contact_no AS contactNo, s.parent_name AS parentName, s.parent_contact AS parentContact, s.guardian_name AS guardianName, s.guardian_contact AS guardianContact, s.address AS address, s.course AS course, s.stream AS stream, s.year AS year, s.admission_fee AS admissionFee, s.room_id AS roomId, r.room_no AS roomNo, r.floor AS floor, r.monthly_rent AS monthlyRent FROM Student s LEFT JOIN Rooms r ON s.room_id = r.room_id WHERE s.student_id = ?1", nativeQuery = true)
+    Optional<StudentProfileView> findProfileById(Integer studentId);
+
+    interface StudentProfileView {
+        Integer getStudentId();
+        String getName();
+        String getCollegeId();
+        String getGender();
+        LocalDate getDob();
+        LocalDate getAdmissionDate();
+        String getEmail();
+        String getContactNo();
+        String getParentName();
+        String getParentContact();
+        String getGuardianName();
+        String getGuardianContact();
+        String getAddress();
+        String getCourse();
+        String getStream();
+        String getYear();
+        Boolean getAdmissionFee();
+        Integer getRoomId();
+        String getRoomNo();
+        String getFloor();
+        BigDecimal getMonthlyRent();
+    }
+
+    @Query(value = "SELECT room_id FROM Student WHERE student_id = ?1", nativeQuery = true)
+    Optional<Integer> findRoomIdByStudentId(Integer studentId);
+
 @Query(value = "SELECT s2.name FROM Student s1 JOIN Student s2 ON s1.room_id = s2.room_id WHERE s1.student_id = ?1 AND s2.student_id != ?1 AND s1.room_id IS NOT NULL", nativeQuery = true)
 List<String> findRoommatesByStudentId(Integer studentId);
 
@@ -69,8 +115,9 @@ List<String> findRoommatesByStudentId(Integer studentId);
     int assignRoom(Integer roomId, Integer studentId);
     
     @Modifying
-    @Query(value = "UPDATE Student SET room_id = NULL WHERE student_id = ?1", nativeQuery = true)
-    int removeFromRoom(Integer studentId);
+    // Only while the student is still in roomId, so two removals release one seat
+    @Query(value = "UPDATE Student SET room_id = NULL WHERE student_id = ?1 AND room_id = ?2", nativeQuery = true)
+    int removeFromRoom(Integer studentId, Integer roomId);
     
     @Modifying
     @Query(value = "UPDATE Student SET password = ?1 WHERE student_id = ?2", nativeQuery = true)
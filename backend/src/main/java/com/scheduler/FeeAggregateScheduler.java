@@ -0,0 +1,42 @@
+package com.scheduler;
+
+import com.dto.FeeReconciliationResult;
+import com.service.FeeAggregateService;
+import com.service.FeesService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FeeAggregateScheduler {
+
+    private final FeeAggregateService feeAggregateService;
+    private final FeesService feesService;
+
+    public FeeAggregateScheduler(FeeAggregateService feeAggregateService, FeesService feesService) {
+        this.feeAggregateService = feeAggregateService;
+        this.feesService = feesService;
+    }
+
+    /**
+     * Builds the fee_aggregates table on startup (first run after deploy, or
+     * after Fees was edited while the app was down).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcileFeeAggregates();
+    }
+
+    /**
+     * Nightly drift check at 02:30; rewrites any status whose running totals
+     * no longer match Fees.
+     */
+    @Scheduled(cron = "${fees.aggregates.reconcile-cron:0 30 2 * * ?}")
+    public void reconcileFeeAggregates() {
+        FeeReconciliationResult result = feeAggregateService.reconcile();
+        feesService.invalidateSummary();
+        System.out.println("Fee aggregate reconciliation: corrected " + result.correctedStatuses()
+                + " in " + result.elapsedMillis() + " ms");
+    }
+}
@@ -0,0 +1,32 @@
+package com.scheduler;
+
+import com.service.FeeAgingService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+public class FeeAgingScheduler {
+
+    private final FeeAgingService feeAgingService;
+
+    public FeeAgingScheduler(FeeAgingService feeAgingService) {
+        this.feeAgingService = feeAgingService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        refreshAging();
+    }
+
+    /**
+     * Recomputes the overdue-aging snapshot every day at 01:00.
+     */
+    @Scheduled(cron = "${fees.aging.refresh-cron:0 0 1 * * ?}")
+    public void refreshAging() {
+        feeAgingService.refresh(LocalDate.now());
+    }
+}
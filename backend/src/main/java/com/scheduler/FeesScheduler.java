@@ -1,8 +1,10 @@
 package com.scheduler;
 
+import com.dto.FeeGenerationResult;
 import com.entity.Student;
 import com.service.StudentService;
 import com.service.FeesService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -14,6 +16,13 @@ public class FeesScheduler {
     private final FeesService feesService;
     private final StudentService studentService;
 
+    // bulk = one INSERT ... SELECT; set to false to fall back to the per-student loop
+    @Value("${fees.monthly.bulk-generation:true}")
+    private boolean bulkGeneration;
+
+    @Value("${fees.monthly.amount:2000.0}")
+    private double monthlyFeeAmount;
+
     public FeesScheduler(FeesService feesService, StudentService studentService) {
         this.feesService = feesService;
         this.studentService = studentService;
@@ -25,11 +34,20 @@ public class FeesScheduler {
      */
     @Scheduled(cron = "0 0 0 1 * ?")
     public void generateMonthlyFees() {
-        List<Student> students = studentService.getAllStudents(); 
-        double monthlyFeeAmount = 2000.0;   //dummy valueeee change later
+        if (bulkGeneration) {
+            FeeGenerationResult result = feesService.generateMonthlyFees(monthlyFeeAmount);
+            System.out.println("Fees scheduler (bulk): " + result.rowsCreated() + " rows created in "
+                    + result.elapsedMillis() + " ms");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        List<Student> students = studentService.getAllStudents();
 
         for (Student student : students) {
             feesService.createMonthlyFee(student.getStudentId(), monthlyFeeAmount);
         }
+        System.out.println("Fees scheduler (per-student): " + students.size() + " rows created in "
+                + (System.currentTimeMillis() - start) + " ms");
     }
 }
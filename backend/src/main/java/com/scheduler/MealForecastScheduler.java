@@ -0,0 +1,41 @@
+package com.scheduler;
+
+import com.dto.MealForecastRefreshResult;
+import com.service.MealForecastService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MealForecastScheduler {
+
+    private final MealForecastService mealForecastService;
+
+    public MealForecastScheduler(MealForecastService mealForecastService) {
+        this.mealForecastService = mealForecastService;
+    }
+
+    /**
+     * Catches up on startup (first deploy, or nights the app was down), once
+     * the skip bitmaps are loaded.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void refreshOnStartup() {
+        refreshForecast();
+    }
+
+    /**
+     * Nightly at 03:00, after the skip bitmap check; folds in yesterday and
+     * rewrites the forecasts for the coming days.
+     */
+    @Scheduled(cron = "${mess.forecast.refresh-cron:0 0 3 * * ?}")
+    public void refreshForecast() {
+        MealForecastRefreshResult result = mealForecastService.refresh();
+        System.out.println("Meal forecast: " + result.daysFolded() + " days folded (through "
+                + result.foldedThrough() + "), " + result.forecasts() + " forecasts in "
+                + result.elapsedMillis() + " ms");
+    }
+}
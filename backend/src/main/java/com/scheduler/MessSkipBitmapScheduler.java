@@ -0,0 +1,50 @@
+package com.scheduler;
+
+import com.dto.MessSkipReconciliationResult;
+import com.service.MessSkipBitmapStore;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MessSkipBitmapScheduler {
+
+    private final MessSkipBitmapStore messSkipBitmapStore;
+
+    public MessSkipBitmapScheduler(MessSkipBitmapStore messSkipBitmapStore) {
+        this.messSkipBitmapStore = messSkipBitmapStore;
+    }
+
+    /**
+     * Loads the persisted skip bitmaps into memory on startup. The full
+     * rebuild from MessSkipping runs only when there is nothing to load yet
+     * (first run after deploy); edits made while the app was down are picked
+     * up by the nightly check. Runs before the startup forecast, which reads
+     * the bitmaps.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void loadOnStartup() {
+        long start = System.currentTimeMillis();
+        int loaded = messSkipBitmapStore.load();
+        System.out.println("Mess skip bitmaps: " + loaded + " loaded in " + (System.currentTimeMillis() - start)
+                + " ms");
+        if (messSkipBitmapStore.needsBuild()) {
+            reconcileSkipBitmaps();
+        }
+    }
+
+    /**
+     * Nightly check at 02:45; rewrites any bitmap that no longer matches
+     * MessSkipping.
+     */
+    @Scheduled(cron = "${mess.skip-bitmaps.reconcile-cron:0 45 2 * * ?}")
+    public void reconcileSkipBitmaps() {
+        MessSkipReconciliationResult result = messSkipBitmapStore.reconcile();
+        System.out.println("Mess skip bitmap reconciliation: " + result.corrected() + " of " + result.bitmaps()
+                + " bitmaps rewritten, " + result.skips() + " skips in " + result.storedBytes() + " bytes, "
+                + result.elapsedMillis() + " ms");
+    }
+}
@@ -0,0 +1,34 @@
+package com.scheduler;
+
+import com.dto.RoomOccupancyDrift;
+import com.dto.RoomReconciliationResult;
+import com.service.RoomsService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RoomOccupancyScheduler {
+
+    private static final int LOGGED_ROOMS = 20;
+
+    private final RoomsService roomsService;
+
+    public RoomOccupancyScheduler(RoomsService roomsService) {
+        this.roomsService = roomsService;
+    }
+
+    /**
+     * Hourly recount of Rooms.current_occupants/status from Student.room_id;
+     * logs every room that had drifted (up to LOGGED_ROOMS of them).
+     */
+    @Scheduled(cron = "${rooms.occupancy.reconcile-cron:0 15 * * * ?}")
+    public void reconcileRoomOccupancy() {
+        RoomReconciliationResult result = roomsService.reconcileOccupancy();
+        System.out.println("Room occupancy reconciliation: " + result.roomsCorrected() + " rooms corrected ("
+                + result.occupantDrift() + " occupants of drift) in " + result.elapsedMillis() + " ms");
+        for (RoomOccupancyDrift drift : result.corrected().subList(0, Math.min(LOGGED_ROOMS, result.roomsCorrected()))) {
+            System.out.println("  room " + drift.roomNo() + ": occupants " + drift.storedOccupants() + " -> "
+                    + drift.actualOccupants() + ", status " + drift.storedStatus() + " -> " + drift.status());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The single hostel administrator account, configured in application.properties.
+ * A blank auth.admin.password disables admin login.
+ */
+@Component
+public class AdminAccount {
+
+    public static final String ROLE = "ADMIN";
+
+    // Admin tokens carry no student; 0 never matches a Student row
+    public static final Integer TOKEN_SUBJECT = 0;
+
+    private final String userId;
+    private final String password;
+
+    public AdminAccount(@Value("${auth.admin.user-id:admin}") String userId,
+                        @Value("${auth.admin.password:}") String password) {
+        this.userId = userId;
+        this.password = password;
+    }
+
+    public boolean matches(String userId, String password) {
+        if (this.password.isBlank() || userId == null || password == null) {
+            return false;
+        }
+        // compare both fields in constant time so neither leaks through timing
+        boolean user = MessageDigest.isEqual(this.userId.getBytes(StandardCharsets.UTF_8),
+                userId.getBytes(StandardCharsets.UTF_8));
+        boolean secret = MessageDigest.isEqual(this.password.getBytes(StandardCharsets.UTF_8),
+                password.getBytes(StandardCharsets.UTF_8));
+        return user & secret;
+    }
+}
@@ -0,0 +1,50 @@
+package com.security;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+@Configuration
+public class SecurityConfig {
+
+    // Endpoints that need a session token; everything else stays open as before.
+    private static final String[] AUTHENTICATED = {
+        "/api/students/me",
+        "/api/students/logout",
+        "/api/mess/skips"
+    };
+
+    // Admin screens and jobs; each controller keeps its admin routes under one prefix.
+    private static final String[] ADMIN = {
+        "/api/students/Admin/**",
+        "/api/fees/admin/**",
+        "/api/mess/admin/**",
+        "/api/rooms/admin/**"
+    };
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, TokenService tokenService) throws Exception {
+        http
+            .csrf(AbstractHttpConfigurer::disable)
+            .cors(Customizer.withDefaults())
+            .httpBasic(AbstractHttpConfigurer::disable)
+            .formLogin(AbstractHttpConfigurer::disable)
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(auth -> auth
+                .requestMatchers(HttpMethod.POST, "/api/students/Admin/login").permitAll()
+                .requestMatchers(ADMIN).hasRole(AdminAccount.ROLE)
+                .requestMatchers(AUTHENTICATED).authenticated()
+                .anyRequest().permitAll())
+            .exceptionHandling(ex -> ex.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+            .addFilterBefore(new TokenAuthenticationFilter(tokenService), UsernamePasswordAuthenticationFilter.class);
+        return http.build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Issues and verifies stateless session tokens.
+ *
+ * A token is base64url(studentId:role:expiry:tokenId) + "." + HMAC-SHA256 of
+ * that payload, so verifying a request needs no database lookup. Logout adds
+ * the token id to an in-memory revocation set until the token would have
+ * expired anyway.
+ */
+@Service
+public class TokenService {
+
+    private static final String HMAC = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final long ttlSeconds;
+
+    // tokenId -> expiry (epoch seconds)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    public record TokenClaims(Integer studentId, String role, Instant expiresAt, String tokenId) {}
+
+    public TokenService(@Value("${auth.token.secret:}") String secret,
+                        @Value("${auth.token.ttl-minutes:720}") long ttlMinutes) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            // No configured secret: tokens stay valid only until the next restart
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            System.out.println("auth.token.secret not set; using a random per-process signing key");
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(keyBytes, HMAC);
+        this.ttlSeconds = ttlMinutes * 60;
+    }
+
+    public String issue(Integer studentId, String role) {
+        long expiry = Instant.now().getEpochSecond() + ttlSeconds;
+        String payload = studentId + ":" + role + ":" + expiry + ":" + UUID.randomUUID();
+        String encoded = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return encoded + "." + sign(encoded);
+    }
+
+    public Optional<TokenClaims> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return Optional.empty();
+        }
+        String encoded = token.substring(0, dot);
+        byte[] expected = sign(encoded).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(dot + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return Optional.empty();
+        }
+
+        try {
+            String[] parts = new String(DECODER.decode(encoded), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 4) {
+                return Optional.empty();
+            }
+            long expiry = Long.parseLong(parts[2]);
+            if (expiry <= Instant.now().getEpochSecond() || revoked.containsKey(parts[3])) {
+                return Optional.empty();
+            }
+            return Optional.of(new TokenClaims(Integer.valueOf(parts[0]), parts[1],
+                    Instant.ofEpochSecond(expiry), parts[3]));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public void revoke(TokenClaims claims) {
+        revoked.put(claims.tokenId(), claims.expiresAt().getEpochSecond());
+    }
+
+    public int revokedCount() {
+        return revoked.size();
+    }
+
+    // Revoked ids only need to be remembered until their token expires.
+    @Scheduled(fixedDelayString = "${auth.token.purge-interval-ms:600000}")
+    public void purgeExpiredRevocations() {
+        long now = Instant.now().getEpochSecond();
+        revoked.values().removeIf(expiry -> expiry <= now);
+    }
+
+    private String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(key);
+            return ENCODER.encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Token signing failed", e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.dto.FeeReconciliationResult;
+import com.entity.FeeAggregate;
+import com.repository.FeeAggregateRepository;
+import com.repository.FeesRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps the fee_aggregates summary table in step with Fees.
+ *
+ * Every fee write in FeesService reports its delta here inside the same
+ * transaction, so dashboard reads are a lookup of a handful of rows. The
+ * reconciliation pass recomputes the table from Fees and repairs any drift
+ * (rows written outside FeesService, manual SQL, etc.).
+ */
+@Service
+@Transactional
+public class FeeAggregateService {
+
+    private final FeeAggregateRepository feeAggregateRepository;
+    private final FeesRepository feesRepository;
+
+    public FeeAggregateService(FeeAggregateRepository feeAggregateRepository, FeesRepository feesRepository) {
+        this.feeAggregateRepository = feeAggregateRepository;
+        this.feesRepository = feesRepository;
+    }
+
+    // ===== INCREMENTAL UPDATES =====
+    public void add(String status, long countDelta, double amountDelta) {
+        if (countDelta == 0 && amountDelta == 0) {
+            return;
+        }
+        feeAggregateRepository.addToAggregate(status, countDelta, amountDelta);
+    }
+
+    // Per-status totals of one student's fee rows. The rows are locked until the caller's
+    // transaction ends, so a concurrent import cannot change them between the snapshot
+    // and the update or delete it brackets.
+    public List<Object[]> snapshotStudent(Integer studentId) {
+        Map<String, Object[]> byStatus = new LinkedHashMap<>();
+        for (Object[] row : feesRepository.lockStatusAmountsForStudent(studentId)) {
+            Object[] totals = byStatus.computeIfAbsent((String) row[0], status -> new Object[] {status, 0L, 0.0});
+            totals[1] = (Long) totals[1] + 1;
+            totals[2] = (Double) totals[2] + (row[1] == null ? 0.0 : ((Number) row[1]).doubleValue());
+        }
+        return new ArrayList<>(byStatus.values());
+    }
+
+    // Applies (after - before) for every status touched by a student's rows.
+    public void applyStudentChange(List<Object[]> before, List<Object[]> after) {
+        for (Object[] row : before) {
+            add((String) row[0], -((Number) row[1]).longValue(), -((Number) row[2]).doubleValue());
+        }
+        for (Object[] row : after) {
+            add((String) row[0], ((Number) row[1]).longValue(), ((Number) row[2]).doubleValue());
+        }
+    }
+
+    // ===== READS =====
+    @Transactional(readOnly = true)
+    public Map<String, FeeAggregate> getAggregates() {
+        Map<String, FeeAggregate> byStatus = new HashMap<>();
+        for (FeeAggregate aggregate : feeAggregateRepository.findAllAggregates()) {
+            byStatus.put(aggregate.getStatus(), aggregate);
+        }
+        return byStatus;
+    }
+
+    // ===== RECONCILIATION =====
+    public FeeReconciliationResult reconcile() {
+        long start = System.currentTimeMillis();
+
+        // Lock the aggregates before reading Fees: a writer that commits its Fees change
+        // first is waited for and counted; one that commits after applies its delta on top
+        // of the rewritten value. Either way no delta is lost.
+        Map<String, FeeAggregate> stored = new HashMap<>();
+        for (FeeAggregate aggregate : feeAggregateRepository.lockAllAggregates()) {
+            stored.put(aggregate.getStatus(), aggregate);
+        }
+        List<String> corrected = new ArrayList<>();
+
+        for (Object[] row : feesRepository.getTotalsByStatus()) {
+            String status = (String) row[0];
+            long count = ((Number) row[1]).longValue();
+            double amount = ((Number) row[2]).doubleValue();
+
+            FeeAggregate current = stored.remove(status);
+            if (current == null) {
+                feeAggregateRepository.addToAggregate(status, count, amount);
+                corrected.add(status);
+            } else if (current.getFeeCount() != count || Math.abs(current.getTotalAmount() - amount) > 0.005) {
+                feeAggregateRepository.overwriteAggregate(status, count, amount);
+                corrected.add(status);
+            }
+        }
+
+        // Statuses with no remaining Fees rows
+        for (FeeAggregate leftover : stored.values()) {
+            if (leftover.getFeeCount() != 0 || leftover.getTotalAmount() != 0) {
+                feeAggregateRepository.overwriteAggregate(leftover.getStatus(), 0L, 0.0);
+                corrected.add(leftover.getStatus());
+            }
+        }
+
+        return new FeeReconciliationResult(corrected, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,83 @@
+package com.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.dto.FeeAgingRow;
+import com.dto.FeeAgingSnapshot;
+import com.repository.FeesRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Overdue-aging report (0-30, 31-60, 61-90, 90+ days) by floor, course and year.
+ *
+ * The grouped query runs once per refresh (daily job, startup, or on demand)
+ * and the result is held as an immutable snapshot, so reads never touch Fees.
+ */
+@Service
+public class FeeAgingService {
+
+    private final FeesRepository feesRepository;
+
+    private volatile FeeAgingSnapshot snapshot;
+
+    public FeeAgingService(FeesRepository feesRepository) {
+        this.feesRepository = feesRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public FeeAgingSnapshot refresh(LocalDate asOf) {
+        long start = System.currentTimeMillis();
+
+        List<Object[]> raw = feesRepository.getOverdueAging(asOf,
+                asOf.minusDays(30), asOf.minusDays(60), asOf.minusDays(90));
+
+        List<FeeAgingRow> rows = new ArrayList<>(raw.size());
+        for (Object[] row : raw) {
+            rows.add(new FeeAgingRow(
+                    (String) row[0], (String) row[1], (String) row[2],
+                    count(row[3]), amount(row[4]),
+                    count(row[5]), amount(row[6]),
+                    count(row[7]), amount(row[8]),
+                    count(row[9]), amount(row[10])));
+        }
+
+        FeeAgingSnapshot computed = new FeeAgingSnapshot(asOf, LocalDateTime.now(),
+                System.currentTimeMillis() - start, List.copyOf(rows));
+        // A historical asOf is an ad-hoc report; only today's run replaces the served snapshot
+        if (asOf.equals(LocalDate.now())) {
+            snapshot = computed;
+        }
+        System.out.println("Fee aging snapshot as of " + asOf + ": " + rows.size() + " groups in "
+                + computed.elapsedMillis() + " ms");
+        return computed;
+    }
+
+    // Latest snapshot, filtered in memory; computed on first use if the job has not run yet.
+    public FeeAgingSnapshot getSnapshot(String floor, String course, String year) {
+        FeeAgingSnapshot current = snapshot;
+        if (current == null) {
+            current = refresh(LocalDate.now());
+        }
+        if (floor == null && course == null && year == null) {
+            return current;
+        }
+        List<FeeAgingRow> filtered = current.rows().stream()
+                .filter(r -> floor == null || floor.equals(r.floor()))
+                .filter(r -> course == null || course.equals(r.course()))
+                .filter(r -> year == null || year.equals(r.year()))
+                .toList();
+        return new FeeAgingSnapshot(current.asOf(), current.computedAt(), current.elapsedMillis(), filtered);
+    }
+
+    private static long count(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    private static double amount(Object value) {
+        return value == null ? 0.0 : ((Number) value).doubleValue();
+    }
+}
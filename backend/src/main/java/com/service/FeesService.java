@@ -1,23 +1,51 @@
 package com.service;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.stream.Stream;
 
+import com.dto.FeeGenerationResult;
+import com.dto.FeeSummary;
+import com.dto.FeeTablePage;
+import com.entity.FeeAggregate;
 import com.entity.Fees;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.repository.FeesRepository;
+import com.util.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.Map;
 
 @Service
 @Transactional
 public class FeesService {
 
     private final FeesRepository feesRepository;
+    private final FeeAggregateService feeAggregateService;
+    private final ObjectMapper objectMapper;
 
-    public FeesService(FeesRepository feesRepository) {
+    private static final int MAX_PAGE_SIZE = 500;
+
+    @Value("${fees.summary.ttl-ms:2000}")
+    private long summaryTtlMillis;
+
+    private volatile CachedSummary summaryCache;
+
+    private record CachedSummary(FeeSummary summary, long computedAt) {}
+
+    public FeesService(FeesRepository feesRepository, FeeAggregateService feeAggregateService,
+                       ObjectMapper objectMapper) {
         this.feesRepository = feesRepository;
+        this.feeAggregateService = feeAggregateService;
+        this.objectMapper = objectMapper;
     }
 
     // ===== CREATE MONTHLY FEE RECORD =====
@@ -26,29 +54,155 @@ public class FeesService {
         fees.setStudent(studentId);
         fees.setAmount(amount);
         
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        String today = LocalDate.now().format(formatter);
-        fees.setDueDate(today);
+        fees.setDueDate(LocalDate.now());
 
         fees.setPaidDate(null);
         fees.setStatus("PENDING");
 
-        return feesRepository.save(fees);
+        Fees saved = feesRepository.save(fees);
+        feeAggregateService.add("PENDING", 1, amount);
+        TransactionHooks.afterCommit(this::invalidateSummary);
+        return saved;
     }
 
-    public Double getCollectionPercent() {
-    try {
-        Double paid = feesRepository.getPaidFees();
-        Double total = feesRepository.getTotalFees();
+    // ===== BULK MONTHLY FEE GENERATION =====
+    // Creates this month's PENDING row for every student in a single statement,
+    // without loading Student entities. Students already billed for the date are skipped.
+    public FeeGenerationResult generateMonthlyFees(Double amount) {
+        long start = System.currentTimeMillis();
 
-        // Handle null or zero values
-        if (paid == null || total == null || total == 0) {
-            return 0.0;
+        LocalDate today = LocalDate.now();
+
+        int created = feesRepository.insertMonthlyFeesForAllStudents(amount, today);
+        feeAggregateService.add("PENDING", created, created * amount);
+        TransactionHooks.afterCommit(this::invalidateSummary);
+        long elapsed = System.currentTimeMillis() - start;
+
+        return new FeeGenerationResult(today, created, elapsed);
+    }
+
+    // ===== UPDATE / DELETE =====
+    // Updates a single ledger entry (one month) rather than every row of the student.
+    public int updateFee(Integer feeId, Double amount, LocalDate dueDate, LocalDate paidDate,
+                         String status, String paymentMode) {
+        if (amount == null || dueDate == null || status == null || status.isBlank()) {
+            throw new IllegalArgumentException("amount, dueDate and status are required");
+        }
+        Fees before = feesRepository.lockByFeeId(feeId).orElse(null);
+        if (before == null) {
+            return 0;
+        }
+        int updated = feesRepository.updateFeeById(feeId, amount, dueDate, paidDate, status, paymentMode);
+        if (updated > 0) {
+            feeAggregateService.add(before.getStatus(), -1, -before.getAmount());
+            feeAggregateService.add(status, 1, amount);
+            TransactionHooks.afterCommit(this::invalidateSummary);
+        }
+        return updated;
+    }
+
+    public int deleteByStudentId(Integer studentId) {
+        List<Object[]> before = feeAggregateService.snapshotStudent(studentId);
+        int deleted = feesRepository.deleteByStudentId(studentId);
+        if (deleted > 0) {
+            feeAggregateService.applyStudentChange(before, List.of());
+            TransactionHooks.afterCommit(this::invalidateSummary);
         }
+        return deleted;
+    }
 
-        double percent = (paid / total) * 100;
+    // ===== LEDGER =====
+    @Transactional(readOnly = true)
+    public Page<Fees> getHistory(Integer studentId, int page, int size) {
+        return feesRepository.findHistoryByStudentId(studentId, pageRequest(page, size));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Fees> getFeesDueBetween(LocalDate from, LocalDate to, int page, int size) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        return feesRepository.findDueBetween(from, to, pageRequest(page, size));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Fees> getOverdueAsOf(LocalDate asOf, int page, int size) {
+        return feesRepository.findOverdueAsOf(asOf, pageRequest(page, size));
+    }
+
+    private static PageRequest pageRequest(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+    }
+
+    // ===== DASHBOARD SUMMARY =====
+    // The fees page fires its widget requests in parallel; they all share one
+    // aggregation result for a short window instead of each scanning Fees.
+    public FeeSummary getSummary() {
+        CachedSummary cached = summaryCache;
+        if (cached != null && System.currentTimeMillis() - cached.computedAt() < summaryTtlMillis) {
+            return cached.summary();
+        }
+        synchronized (this) {
+            cached = summaryCache;
+            if (cached != null && System.currentTimeMillis() - cached.computedAt() < summaryTtlMillis) {
+                return cached.summary();
+            }
+            FeeSummary summary = computeSummary();
+            summaryCache = new CachedSummary(summary, System.currentTimeMillis());
+            return summary;
+        }
+    }
+
+    // Reads the incrementally maintained fee_aggregates rows; no scan of Fees.
+    private FeeSummary computeSummary() {
+        Map<String, FeeAggregate> aggregates = feeAggregateService.getAggregates();
+
+        double paid = 0.0, pending = 0.0, total = 0.0;
+        long paidCount = 0, pendingCount = 0, totalCount = 0;
+        for (FeeAggregate aggregate : aggregates.values()) {
+            long count = countOrZero(aggregate.getFeeCount());
+            double amount = valueOrZero(aggregate.getTotalAmount());
+            if ("PAID".equals(aggregate.getStatus())) {
+                paid = amount;
+                paidCount = count;
+            } else if ("PENDING".equals(aggregate.getStatus())) {
+                pending = amount;
+                pendingCount = count;
+            }
+            total += amount;
+            totalCount += count;
+        }
+
+        return new FeeSummary(paid, pending, total, paidCount, pendingCount, totalCount,
+                percent(paid, total), percent(paidCount, totalCount), percent(pendingCount, totalCount));
+    }
+
+    // Drops the memoized summary so the next read reflects a write immediately.
+    // Writers call it after commit; clearing it earlier would let a concurrent
+    // read cache the pre-commit aggregates for the whole TTL.
+    public void invalidateSummary() {
+        summaryCache = null;
+    }
+
+    private static double percent(double part, double whole) {
+        if (whole == 0) {
+            return 0.0;
+        }
+        double percent = (part / whole) * 100;
         return Math.round(percent * 100.0) / 100.0; // round to 2 decimal places
+    }
 
+    private static double valueOrZero(Double value) {
+        return value == null ? 0.0 : value;
+    }
+
+    private static long countOrZero(Long value) {
+        return value == null ? 0L : value;
+    }
+
+    public Double getCollectionPercent() {
+        try {
+            return getSummary().collectionPercent();
         } catch (Exception e) {
             // Log the exception and return 0 to keep the app stable
             System.err.println("Error calculating collection percent: " + e.getMessage());
@@ -56,47 +210,102 @@ public class FeesService {
         }
     }
     public Double getPendingFees() {
-        return feesRepository.getPendingFees();
+        return getSummary().pendingFees();
     }
     public Double getPaidFees() {
-        return feesRepository.getPaidFees();
+        return getSummary().paidFees();
     }
     public Double getTotalFees() {
-        return feesRepository.getTotalFees();
+        return getSummary().totalFees();
     }
     public Long countPendingFees() {
-        return feesRepository.countPendingFees();
+        return getSummary().pendingCount();
     }
     public Long countPaidFees() {
-        return feesRepository.countPaidFees();
+        return getSummary().paidCount();
     }
     public Long countTotalFees() {
-        return feesRepository.countTotalFees();
+        return getSummary().totalCount();
     }
     public Double getPaidCountPercent(){
-            Long paidCount = feesRepository.countPaidFees();
-            Long totalCount = feesRepository.countTotalFees();
-
-            // Handle null or zero values
-            if (paidCount == null || totalCount == null || totalCount == 0) {
-                return 0.0;
-            }
-            double percent = ((double) paidCount / totalCount) * 100;
-            return Math.round(percent * 100.0) / 100.0; // round to 2 decimal places
+        return getSummary().paidCountPercent();
     }
     public Double getPendingCountPercent(){
-            Long pendingCount = feesRepository.countPendingFees();
-            Long totalCount = feesRepository.countTotalFees();
-
-            // Handle null or zero values
-            if (pendingCount == null || totalCount == null || totalCount == 0) {
-                return 0.0;
-            }
-            double percent = ((double) pendingCount / totalCount) * 100;
-            return Math.round(percent * 100.0) / 100.0; // round to 2 decimal places
+        return getSummary().pendingCountPercent();
     }
     public List<Object[]> getFeeInfo() {
         return feesRepository.getFeeInfo();
     }
 
-}
\ No newline at end of file
+    // ===== FEE TABLE: KEYSET PAGES =====
+    @Transactional(readOnly = true)
+    public FeeTablePage getFeeInfoPage(Integer afterStudentId, Integer afterFeeId, String status,
+                                       String roomNo, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // fetch one extra row to learn whether another page exists
+        List<Object[]> rows = feesRepository.getFeeInfoPage(
+                afterStudentId == null ? 0 : afterStudentId,
+                afterFeeId == null ? 0 : afterFeeId,
+                blankToNull(status), blankToNull(roomNo), limit + 1);
+
+        if (rows.size() <= limit) {
+            return new FeeTablePage(rows, null, null);
+        }
+        rows = rows.subList(0, limit);
+        Object[] last = rows.get(limit - 1);
+        Integer nextStudentId = ((Number) last[0]).intValue();
+        Integer nextFeeId = last[5] == null ? 0 : ((Number) last[5]).intValue();
+        return new FeeTablePage(rows, nextStudentId, nextFeeId);
+    }
+
+    // ===== FEE TABLE: STREAMING EXPORT =====
+    // Rows are written as the cursor yields them, so heap use does not grow with the table.
+    @Transactional(readOnly = true)
+    public long exportFeeInfo(String status, String roomNo, String format, Writer writer) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        long count = 0;
+
+        if (csv) {
+            writer.write("studentId,name,roomNo,fee,feeStatus\n");
+        }
+        try (Stream<Object[]> rows = feesRepository.streamFeeInfo(blankToNull(status), blankToNull(roomNo))) {
+            Iterator<Object[]> it = rows.iterator();
+            while (it.hasNext()) {
+                Object[] row = it.next();
+                if (csv) {
+                    writer.write(csvField(row[0]) + "," + csvField(row[1]) + "," + csvField(row[2]) + ","
+                            + csvField(row[3]) + "," + csvField(row[4]) + "\n");
+                } else {
+                    LinkedHashMap<String, Object> json = new LinkedHashMap<>();
+                    json.put("studentId", row[0]);
+                    json.put("name", row[1]);
+                    json.put("roomNo", row[2]);
+                    json.put("fee", row[3]);
+                    json.put("feeStatus", row[4]);
+                    writer.write(objectMapper.writeValueAsString(json));
+                    writer.write("\n");
+                }
+                if (++count % 1000 == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,134 @@
+package com.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Short-lived store of responses keyed by a client-supplied Idempotency-Key.
+ *
+ * The first request with a key runs; a retry with the same key gets the
+ * stored response back without running again. A retry that arrives while the
+ * first is still running waits for it. Only successful responses are kept, so
+ * a request that failed can be retried with the same key. Reusing a key for a
+ * different request body is rejected; bodies are compared by a SHA-256 of their
+ * JSON with map keys sorted.
+ *
+ * At most idempotency.max-entries keys are held. When the store is full and
+ * nothing has expired, a request with a new key gets 503 instead of evicting a
+ * key a client may still retry.
+ */
+@Service
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final ObjectMapper canonicalMapper;
+
+    private record Entry(String fingerprint, long createdAt, CompletableFuture<ResponseEntity<?>> response) {}
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public IdempotencyStore(@Value("${idempotency.ttl-seconds:600}") long ttlSeconds,
+                            @Value("${idempotency.max-entries:10000}") int maxEntries,
+                            ObjectMapper objectMapper) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+        this.canonicalMapper = objectMapper.copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+    }
+
+    public ResponseEntity<?> execute(String scope, String key, Object request, Supplier<ResponseEntity<?>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        String id = scope + ":" + key;
+        String fingerprint = fingerprint(request);
+
+        if (entries.size() >= maxEntries && !entries.containsKey(id)) {
+            purgeExpired();
+            if (entries.size() >= maxEntries) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .body("Too many requests in progress; retry later");
+            }
+        }
+
+        Entry mine = new Entry(fingerprint, System.currentTimeMillis(), new CompletableFuture<>());
+        Entry existing;
+        while ((existing = entries.putIfAbsent(id, mine)) != null && isExpired(existing)) {
+            entries.remove(id, existing);
+        }
+
+        if (existing != null) {
+            if (!existing.fingerprint().equals(fingerprint)) {
+                return ResponseEntity.unprocessableEntity()
+                        .body("Idempotency key was already used for a different request");
+            }
+            ResponseEntity<?> original;
+            try {
+                original = existing.response().join();
+            } catch (CompletionException e) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body("The original request with this idempotency key failed; retry it");
+            }
+            return ResponseEntity.status(original.getStatusCode())
+                    .headers(original.getHeaders())
+                    .header(REPLAYED_HEADER, "true")
+                    .body(original.getBody());
+        }
+
+        ResponseEntity<?> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            entries.remove(id, mine);
+            mine.response().completeExceptionally(e);
+            throw e;
+        }
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            entries.remove(id, mine);
+        }
+        mine.response().complete(response);
+        return response;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        entries.values().removeIf(this::isExpired);
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonicalMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint the request", e);
+        }
+    }
+
+    // Entries still running are never expired, so waiters always get an answer.
+    private boolean isExpired(Entry entry) {
+        return entry.response().isDone() && System.currentTimeMillis() - entry.createdAt() > ttlMillis;
+    }
+}
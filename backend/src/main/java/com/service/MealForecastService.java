@@ -0,0 +1,215 @@
+package com.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dto.MealForecast;
+import com.dto.MealForecastRefreshResult;
+import com.dto.MealSkipCounts;
+import com.repository.MealForecastRepository;
+import com.repository.MealForecastRepository.Stat;
+
+/**
+ * Meal headcount forecasts from past skip counts.
+ *
+ * Each finished day's skipped meals (popcounts from MessSkipBitmapStore) are
+ * folded into running mean/variance statistics per meal for four buckets:
+ * weekday and holiday flag, holiday flag alone, calendar month, and all days.
+ * Only days after the last folded one are read, so a nightly run touches one
+ * day. A forecast takes the weekday/holiday mean (or the holiday-only or
+ * overall mean while that bucket has fewer than MIN_SAMPLES days), scales it
+ * by the month's mean over the overall mean once the month has
+ * MIN_MONTH_SAMPLES days, and never expects fewer skips than are already
+ * registered for the day. Forecasts for the next horizon-days days are
+ * written to mess_headcount_forecasts and read from there.
+ *
+ * Holidays are mess.forecast.holidays: yyyy-MM-dd dates, or MM-dd for every
+ * year. Skips edited after their day has been folded are not re-read.
+ */
+@Service
+public class MealForecastService {
+
+    static final int MIN_SAMPLES = 3;
+    // two weeks, so a month's mean is not skewed by which weekdays it has seen
+    static final int MIN_MONTH_SAMPLES = 14;
+    // two-sided 95% normal quantile
+    private static final double Z95 = 1.96;
+
+    private final MealForecastRepository mealForecastRepository;
+    private final MessSkipBitmapStore messSkipBitmapStore;
+    private final int horizonDays;
+    private final Set<LocalDate> holidayDates = new HashSet<>();
+    private final Set<MonthDay> yearlyHolidays = new HashSet<>();
+
+    public MealForecastService(MealForecastRepository mealForecastRepository,
+                               MessSkipBitmapStore messSkipBitmapStore,
+                               @Value("${mess.forecast.horizon-days:7}") int horizonDays,
+                               @Value("${mess.forecast.holidays:01-26,08-15,10-02}") List<String> holidays) {
+        this.mealForecastRepository = mealForecastRepository;
+        this.messSkipBitmapStore = messSkipBitmapStore;
+        this.horizonDays = horizonDays;
+        for (String holiday : holidays) {
+            String value = holiday.trim();
+            if (value.length() == 5) {
+                yearlyHolidays.add(MonthDay.parse("--" + value));
+            } else if (!value.isEmpty()) {
+                holidayDates.add(LocalDate.parse(value));
+            }
+        }
+    }
+
+    // ===== READ =====
+    @Transactional(readOnly = true)
+    public List<MealForecast> getForecasts(LocalDate from, int days) {
+        if (days < 1 || days > horizonDays) {
+            throw new IllegalArgumentException("days must be between 1 and " + horizonDays);
+        }
+        return mealForecastRepository.findForecasts(from, from.plusDays(days - 1));
+    }
+
+    // ===== NIGHTLY RUN =====
+    // Folds every day from the last folded one up to yesterday, then rewrites
+    // the forecasts for tomorrow onwards.
+    @Transactional
+    public MealForecastRefreshResult refresh() {
+        long start = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+
+        Map<String, Running> stats = new HashMap<>();
+        for (Stat stat : mealForecastRepository.lockStats()) {
+            stats.put(key(stat.mealType(), stat.bucket()), new Running(stat.samples(), stat.mean(), stat.m2()));
+        }
+        LocalDate foldedThrough = mealForecastRepository.findFoldedThrough();
+        LocalDate from = foldedThrough != null ? foldedThrough.plusDays(1) : messSkipBitmapStore.firstDate();
+
+        int daysFolded = 0;
+        if (from != null) {
+            for (LocalDate day = from; day.isBefore(today); day = day.plusDays(1)) {
+                MealSkipCounts counts = messSkipBitmapStore.counts(day);
+                for (String meal : MessSkipBitmapStore.MEALS) {
+                    int skipped = counts.count(meal);
+                    for (String bucket : buckets(day)) {
+                        stats.computeIfAbsent(key(meal, bucket), k -> new Running()).add(skipped);
+                    }
+                }
+                daysFolded++;
+                foldedThrough = day;
+            }
+        }
+        if (daysFolded > 0) {
+            List<Stat> rows = new ArrayList<>(stats.size());
+            stats.forEach((key, running) -> {
+                int split = key.indexOf('|');
+                rows.add(new Stat(key.substring(0, split), key.substring(split + 1), running.samples, running.mean,
+                        running.m2));
+            });
+            mealForecastRepository.replaceStats(rows, foldedThrough);
+        }
+
+        int residents = mealForecastRepository.countResidents();
+        LocalDateTime generatedAt = LocalDateTime.now();
+        List<MealForecast> forecasts = new ArrayList<>();
+        LocalDate first = today.plusDays(1);
+        LocalDate last = today.plusDays(horizonDays);
+        for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+            MealSkipCounts registered = messSkipBitmapStore.counts(day);
+            for (String meal : MessSkipBitmapStore.MEALS) {
+                forecasts.add(forecast(stats, day, meal, residents, registered.count(meal), generatedAt));
+            }
+        }
+        mealForecastRepository.replaceForecasts(first, last, forecasts);
+        return new MealForecastRefreshResult(daysFolded, foldedThrough, forecasts.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    private MealForecast forecast(Map<String, Running> stats, LocalDate day, String meal, int residents,
+                                  int registered, LocalDateTime generatedAt) {
+        boolean holiday = isHoliday(day);
+        Running all = stats.getOrDefault(key(meal, "all"), new Running());
+        Running base = stats.get(key(meal, weekdayBucket(day, holiday)));
+        if (base == null || base.samples < MIN_SAMPLES) {
+            base = stats.get(key(meal, "holiday:" + flag(holiday)));
+        }
+        if (base == null || base.samples < MIN_SAMPLES) {
+            base = all;
+        }
+
+        double mean = base.mean;
+        double sd = base.samples > 1 ? base.stddev() : all.stddev();
+        Running month = stats.get(key(meal, "month:" + day.getMonthValue()));
+        if (month != null && month.samples >= MIN_MONTH_SAMPLES && all.mean > 0) {
+            double seasonal = month.mean / all.mean;
+            mean *= seasonal;
+            sd *= seasonal;
+        }
+
+        int expected = clamp(Math.max(Math.round(mean), registered), residents);
+        int lowSkips = clamp(Math.max(Math.round(mean - Z95 * sd), registered), residents);
+        int highSkips = clamp(Math.max(Math.round(mean + Z95 * sd), registered), residents);
+        return new MealForecast(day, meal, holiday, residents, registered, expected, residents - expected,
+                residents - highSkips, residents - lowSkips, base.samples, generatedAt);
+    }
+
+    boolean isHoliday(LocalDate day) {
+        return holidayDates.contains(day) || yearlyHolidays.contains(MonthDay.from(day));
+    }
+
+    private List<String> buckets(LocalDate day) {
+        boolean holiday = isHoliday(day);
+        return List.of("all", weekdayBucket(day, holiday), "holiday:" + flag(holiday),
+                "month:" + day.getMonthValue());
+    }
+
+    private static String weekdayBucket(LocalDate day, boolean holiday) {
+        return "dow:" + day.getDayOfWeek().getValue() + ":" + flag(holiday);
+    }
+
+    private static int flag(boolean holiday) {
+        return holiday ? 1 : 0;
+    }
+
+    private static String key(String meal, String bucket) {
+        return meal + "|" + bucket;
+    }
+
+    private static int clamp(long skips, int residents) {
+        return (int) Math.max(0, Math.min(skips, residents));
+    }
+
+    // Welford's running mean and sum of squared deviations.
+    private static final class Running {
+        long samples;
+        double mean;
+        double m2;
+
+        Running() {}
+
+        Running(long samples, double mean, double m2) {
+            this.samples = samples;
+            this.mean = mean;
+            this.m2 = m2;
+        }
+
+        void add(double value) {
+            samples++;
+            double delta = value - mean;
+            mean += delta / samples;
+            m2 += delta * (value - mean);
+        }
+
+        double stddev() {
+            return samples > 1 ? Math.sqrt(m2 / (samples - 1)) : 0;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dto.MessMenuEntry;
+import com.entity.MessMenu;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.repository.MessMenuRepository;
+import com.util.TransactionHooks;
+
+/**
+ * Read model of the weekly mess menu.
+ *
+ * The menu is read once and rendered to JSON, for the whole week and for
+ * each day, with an ETag over the bytes and the time of the load as
+ * Last-Modified. insertMenu and updateMenu reload it once they commit and
+ * swap the new snapshot in whole, so a reader sees either the old menu or the
+ * new one. A client whose cached copy is current gets a 304 without a
+ * database read or any serialization.
+ */
+@Service
+public class MessMenuService {
+
+    private final MessMenuRepository messMenuRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    public MessMenuService(MessMenuRepository messMenuRepository, ObjectMapper objectMapper) {
+        this.messMenuRepository = messMenuRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    // A pre-serialized response body and its validators.
+    public record RenderedMenu(byte[] json, String etag, Instant lastModified) {}
+
+    // days keyed by canonical day name, e.g. "Monday"
+    private record Snapshot(List<MessMenuEntry> entries, RenderedMenu week, Map<String, RenderedMenu> days) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    // ===== READS =====
+    public RenderedMenu week() {
+        return current().week();
+    }
+
+    public RenderedMenu day(String day) {
+        return current().days().get(canonical(MessMenu.Day.class, day, "day"));
+    }
+
+    // ===== WRITES =====
+    // The unique (day, meal_type) index decides clashes, so two concurrent writers
+    // cannot both claim the same meal; a clash comes back as IllegalStateException.
+    @Transactional
+    public int insertMenu(MessMenuEntry entry) {
+        MessMenuEntry menu = validate(entry);
+        int inserted;
+        try {
+            inserted = messMenuRepository.insertMenu(null, menu.day(), menu.mealType(), menu.price(), menu.items());
+        } catch (DataIntegrityViolationException e) {
+            throw alreadyTaken(menu);
+        }
+        TransactionHooks.afterCommit(this::reload);
+        return inserted;
+    }
+
+    @Transactional
+    public int updateMenu(Integer menuId, MessMenuEntry entry) {
+        MessMenuEntry menu = validate(entry);
+        int updated;
+        try {
+            updated = messMenuRepository.updateMenu(menuId, menu.day(), menu.mealType(), menu.price(), menu.items());
+        } catch (DataIntegrityViolationException e) {
+            throw alreadyTaken(menu);
+        }
+        if (updated > 0) {
+            TransactionHooks.afterCommit(this::reload);
+        }
+        return updated;
+    }
+
+    private static IllegalStateException alreadyTaken(MessMenuEntry menu) {
+        return new IllegalStateException(menu.day() + " " + menu.mealType()
+                + " already has a menu; update that one instead");
+    }
+
+    // ===== SNAPSHOT =====
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    private synchronized Snapshot reload() {
+        List<MessMenuEntry> entries = new ArrayList<>();
+        for (MessMenu menu : messMenuRepository.findAllMenus()) {
+            entries.add(new MessMenuEntry(menu.getMenuId(), canonicalOrRaw(MessMenu.Day.class, menu.getDay()),
+                    canonicalOrRaw(MessMenu.MealType.class, menu.getMealType()), menu.getPrice(), menu.getItems()));
+        }
+        entries.sort(Comparator.comparingInt((MessMenuEntry e) -> ordinal(MessMenu.Day.class, e.day()))
+                .thenComparingInt(e -> ordinal(MessMenu.MealType.class, e.mealType()))
+                .thenComparing(MessMenuEntry::menuId, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        Snapshot previous = snapshot;
+        Instant loadedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Map<String, RenderedMenu> days = new HashMap<>();
+        for (MessMenu.Day day : MessMenu.Day.values()) {
+            String name = display(day);
+            days.put(name, render(entries.stream().filter(e -> e.day().equals(name)).toList(), loadedAt,
+                    previous == null ? null : previous.days().get(name)));
+        }
+        Snapshot loaded = new Snapshot(List.copyOf(entries),
+                render(entries, loadedAt, previous == null ? null : previous.week()), days);
+        snapshot = loaded;
+        return loaded;
+    }
+
+    // An unchanged body keeps its previous Last-Modified. The ETag stays the
+    // primary validator; Last-Modified only has one-second resolution, so a
+    // changed body is stamped at least a second after the previous one and a
+    // client sending just If-Modified-Since still sees edits made within a second.
+    private RenderedMenu render(List<MessMenuEntry> entries, Instant loadedAt, RenderedMenu previous) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(entries);
+            if (previous != null && Arrays.equals(previous.json(), json)) {
+                return previous;
+            }
+            Instant lastModified = previous == null || loadedAt.isAfter(previous.lastModified())
+                    ? loadedAt : previous.lastModified().plusSeconds(1);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return new RenderedMenu(json, "\"" + HexFormat.of().formatHex(digest, 0, 12) + "\"", lastModified);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not render the mess menu", e);
+        }
+    }
+
+    private static MessMenuEntry validate(MessMenuEntry entry) {
+        if (entry == null || entry.items() == null || entry.items().isBlank()) {
+            throw new IllegalArgumentException("day, mealType and items are required");
+        }
+        String items = entry.items().trim();
+        if (items.getBytes(StandardCharsets.UTF_8).length > 255) {
+            throw new IllegalArgumentException("items must be at most 255 bytes");
+        }
+        if (entry.price() != null && entry.price() < 0) {
+            throw new IllegalArgumentException("price cannot be negative");
+        }
+        return new MessMenuEntry(entry.menuId(), canonical(MessMenu.Day.class, entry.day(), "day"),
+                canonical(MessMenu.MealType.class, entry.mealType(), "mealType"), entry.price(), items);
+    }
+
+    // "monday" / "MONDAY" -> "Monday"
+    private static <E extends Enum<E>> String canonical(Class<E> type, String value, String field) {
+        try {
+            return display(Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + value);
+        }
+    }
+
+    private static <E extends Enum<E>> String canonicalOrRaw(Class<E> type, String value) {
+        try {
+            return canonical(type, value, "");
+        } catch (IllegalArgumentException e) {
+            return value;
+        }
+    }
+
+    private static <E extends Enum<E>> int ordinal(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT)).ordinal();
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private static String display(Enum<?> value) {
+        String name = value.name();
+        return name.charAt(0) + name.substring(1).toLowerCase(Locale.ROOT);
+    }
+}
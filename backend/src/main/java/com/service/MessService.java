@@ -3,8 +3,28 @@ package com.service;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Date;
+import java.time.temporal.ChronoUnit;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.dto.MealSkipCounts;
+import com.dto.MessSkipBatchResult;
+import com.dto.MonthlySkipCounts;
+import com.repository.MessSkippingBatchRepository;
+import com.repository.MessSkippingBatchRepository.NewSkip;
+import com.repository.MessSkippingBatchRepository.SkipRow;
+import com.repository.MessSkippingBatchRepository.StudentContact;
 import com.repository.MessSkippingRepository;
+import com.service.MessSkipBitmapStore.SkipChange;
 import java.time.LocalDate;
 
 
@@ -13,47 +33,173 @@ import java.time.LocalDate;
 @Transactional
 
 public class MessService {
+    // longest date range one batch may cover
+    static final int MAX_BATCH_DAYS = 62;
+
     private final  MessSkippingRepository messSkippingRespository;
-    public MessService( MessSkippingRepository messSkippingRespository) {
+    private final MessSkippingBatchRepository messSkippingBatchRepository;
+    private final MessSkipBitmapStore messSkipBitmapStore;
+    public MessService( MessSkippingRepository messSkippingRespository,
+                        MessSkippingBatchRepository messSkippingBatchRepository,
+                        MessSkipBitmapStore messSkipBitmapStore) {
         this.messSkippingRespository = messSkippingRespository;
+        this.messSkippingBatchRepository = messSkippingBatchRepository;
+        this.messSkipBitmapStore = messSkipBitmapStore;
     }
 
-    public List<Object[]> getSkippedStudentsByDate(){
-        LocalDate date = LocalDate.of(2025, 10, 15);
-        return messSkippingRespository.getSkippedStudentsByDate(date);
+    // [name, meal_type, floor, room_no, contact_no] per skipped meal, by meal then name.
+    // Who skipped comes from the bitmaps; only the contact details are read from Student.
+    @Transactional(readOnly = true)
+    public List<Object[]> getSkippedStudentsByDate(LocalDate date) {
+        int[][] skippers = new int[MessSkipBitmapStore.MEALS.length][];
+        Set<Integer> studentIds = new TreeSet<>();
+        for (int meal = 0; meal < skippers.length; meal++) {
+            skippers[meal] = messSkipBitmapStore.skippers(date, meal);
+            for (int studentId : skippers[meal]) {
+                studentIds.add(studentId);
+            }
+        }
+        Map<Integer, StudentContact> contacts = new HashMap<>();
+        for (StudentContact contact : messSkippingBatchRepository.findStudentContacts(studentIds)) {
+            contacts.put(contact.studentId(), contact);
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int meal = 0; meal < skippers.length; meal++) {
+            List<StudentContact> students = new ArrayList<>();
+            for (int studentId : skippers[meal]) {
+                StudentContact contact = contacts.get(studentId);
+                if (contact != null) {
+                    students.add(contact);
+                }
+            }
+            students.sort((a, b) -> String.valueOf(a.name()).compareToIgnoreCase(String.valueOf(b.name())));
+            for (StudentContact s : students) {
+                rows.add(new Object[]{s.name(), MessSkipBitmapStore.MEALS[meal], s.floor(), s.roomNo(), s.contactNo()});
+            }
+        }
+        return rows;
     }
 
+    // Popcounts of the day's bitmaps; no database read.
+    public MealSkipCounts getSkipCounts(LocalDate date) {
+        return messSkipBitmapStore.counts(date);
+    }
 
-    public Integer countSkippedByDateAndMealType(String date, String mealType) {
-        switch (mealType) {
-            case "Breakfast":
-                return messSkippingRespository.countSkippedBreakfast();
-            case "Lunch":
-                return messSkippingRespository.countSkippedLunch();
-            case "Dinner":
-                return messSkippingRespository.countSkippedDinner();
-            default:
-                throw new IllegalArgumentException("Invalid meal type: " + mealType);
+    public MonthlySkipCounts getMonthlySkips(Integer studentId, YearMonth month) {
+        if (studentId == null || month == null) {
+            throw new IllegalArgumentException("studentId and month are required");
         }
+        return messSkipBitmapStore.monthly(studentId, month);
+    }
 
-
+    public Integer countSkippedByDateAndMealType(String date, String mealType) {
+        return getSkipCounts(LocalDate.parse(date)).count(mealType);
     }
-    public Integer countSkippedBreakfast() {
-        return messSkippingRespository.countSkippedBreakfast();
+
+    // date == null updates the meal on every day the student has a record for.
+    public int updateSkippedByStudentId(Boolean skipped, Integer studentId, String mealType, LocalDate date) {
+        int meal = MessSkipBitmapStore.mealIndex(mealType);
+        if (skipped == null || studentId == null || meal < 0) {
+            throw new IllegalArgumentException("skipped, studentId and a valid mealType are required");
+        }
+        // rows are written with the capitalized name
+        mealType = MessSkipBitmapStore.MEALS[meal];
+        List<Date> changed = date == null
+                ? messSkippingRespository.lockSkipChanges(skipped, studentId, mealType)
+                : messSkippingRespository.lockSkipChangesOn(skipped, studentId, mealType, date);
+        int updated = date == null
+                ? messSkippingRespository.updateSkippedByStudentId(skipped, studentId, mealType)
+                : messSkippingRespository.updateSkippedByStudentIdOn(skipped, studentId, mealType, date);
+        messSkipBitmapStore.record(changed.stream()
+                .map(day -> new SkipChange(studentId, day.toLocalDate(), meal, skipped))
+                .toList());
+        return updated;
     }
-    public Integer countSkippedLunch() {
-        return messSkippingRespository.countSkippedLunch();
+
+    // ===== BATCH SKIPS =====
+    // Every (student, day, meal) in the range ends up with the requested skipped
+    // value: one locking read, then one JDBC batch of updates and one of inserts.
+    // Un-skipping never inserts, since no row already means the student eats.
+    public MessSkipBatchResult skipMeals(Collection<Integer> studentIds, LocalDate from, LocalDate to,
+                                         Collection<String> mealTypes, boolean skipped) {
+        long start = System.currentTimeMillis();
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("A date range with from <= to is required");
+        }
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MAX_BATCH_DAYS) {
+            throw new IllegalArgumentException("Date range is limited to " + MAX_BATCH_DAYS + " days");
+        }
+        List<String> meals = canonicalMeals(mealTypes);
+
+        Set<Integer> requested = new LinkedHashSet<>(studentIds);
+        Set<Integer> students = new HashSet<>(messSkippingBatchRepository.findExistingStudentIds(requested));
+        List<Integer> unknown = new ArrayList<>();
+        for (Integer studentId : requested) {
+            if (!students.contains(studentId)) {
+                unknown.add(studentId);
+            }
+        }
+
+        Set<NewSkip> present = new HashSet<>();
+        List<Integer> toUpdate = new ArrayList<>();
+        List<SkipChange> flipped = new ArrayList<>();
+        for (SkipRow row : messSkippingBatchRepository.lockRows(students, from, to, meals)) {
+            int meal = MessSkipBitmapStore.mealIndex(row.mealType());
+            present.add(new NewSkip(row.studentId(), row.date(), MessSkipBitmapStore.MEALS[meal]));
+            if (Boolean.TRUE.equals(row.skipped()) != skipped) {
+                toUpdate.add(row.skipId());
+                flipped.add(new SkipChange(row.studentId(), row.date(), meal, skipped));
+            }
+        }
+
+        List<NewSkip> toInsert = new ArrayList<>();
+        if (skipped) {
+            for (Integer studentId : students) {
+                for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                    for (String meal : meals) {
+                        NewSkip skip = new NewSkip(studentId, date, meal);
+                        if (!present.contains(skip)) {
+                            toInsert.add(skip);
+                            flipped.add(new SkipChange(studentId, date, MessSkipBitmapStore.mealIndex(meal), true));
+                        }
+                    }
+                }
+            }
+        }
+
+        messSkippingBatchRepository.updateSkipped(toUpdate, skipped);
+        messSkippingBatchRepository.insertSkips(toInsert, skipped);
+        messSkipBitmapStore.record(flipped);
+
+        int unchanged = students.size() * days * meals.size() - toInsert.size() - toUpdate.size();
+        return new MessSkipBatchResult(students.size(), days, toInsert.size(), toUpdate.size(),
+                Math.max(unchanged, 0), unknown, System.currentTimeMillis() - start);
     }
 
-    public Integer countSkippedDinner() {
-        return messSkippingRespository.countSkippedDinner();
+    public MessSkipBatchResult skipMealsForFloor(String floor, LocalDate from, LocalDate to,
+                                                 Collection<String> mealTypes, boolean skipped) {
+        if (floor == null || floor.isBlank()) {
+            throw new IllegalArgumentException("floor is required");
+        }
+        return skipMeals(messSkippingBatchRepository.findStudentIdsOnFloor(floor.trim()), from, to, mealTypes,
+                skipped);
     }
 
-    public int updateSkippedByStudentId(Boolean skipped, Integer studentId,String mealType) {
-       
-        return messSkippingRespository.updateSkippedByStudentId(skipped, studentId,mealType);
+    // Breakfast/Lunch/Dinner as stored; null or empty means all three.
+    private static List<String> canonicalMeals(Collection<String> mealTypes) {
+        if (mealTypes == null || mealTypes.isEmpty()) {
+            return List.of(MessSkipBitmapStore.MEALS);
+        }
+        Set<String> meals = new LinkedHashSet<>();
+        for (String mealType : mealTypes) {
+            int meal = MessSkipBitmapStore.mealIndex(mealType);
+            if (meal < 0) {
+                throw new IllegalArgumentException("Invalid meal type: " + mealType);
+            }
+            meals.add(MessSkipBitmapStore.MEALS[meal]);
+        }
+        return List.copyOf(meals);
     }
 }
-
-    
-
@@ -0,0 +1,281 @@
+package com.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dto.MealSkipCounts;
+import com.dto.MessSkipReconciliationResult;
+import com.dto.MonthlySkipCounts;
+import com.repository.MessSkipBitmapRepository;
+import com.repository.MessSkipBitmapRepository.BitmapKey;
+import com.repository.MessSkipBitmapRepository.StoredBitmap;
+import com.repository.MessSkippingBatchRepository;
+import com.util.BitmapCodec;
+import com.util.TransactionHooks;
+
+/**
+ * Skipped meals as one bitmap per (date, meal) over student ids.
+ *
+ * A day's headcount is a popcount, "who skipped" walks the set bits, and a
+ * student's month is one bit test per day and meal. Every bitmap is kept in
+ * memory (one bit per student id, so a year for 3,000 students is about
+ * 400 KB) and persisted deflated in mess_skip_bitmaps.
+ *
+ * MessService reports each flipped (student, day, meal) before its
+ * transaction commits; the affected bitmaps are re-read under a row lock,
+ * rewritten in the same transaction and installed here once it commits, so
+ * the table never disagrees with MessSkipping and concurrent writers queue
+ * on the bitmap row. Installed bitmaps are never mutated; a newer version
+ * replaces an older one. reconcile() rebuilds everything from MessSkipping
+ * for rows written some other way; at startup the persisted bitmaps are
+ * loaded as they are, without touching MessSkipping.
+ */
+@Service
+public class MessSkipBitmapStore {
+
+    static final String[] MEALS = {"Breakfast", "Lunch", "Dinner"};
+
+    private static final byte[] EMPTY = BitmapCodec.encode(new BitSet());
+
+    private final MessSkipBitmapRepository bitmapRepository;
+    private final MessSkippingBatchRepository skippingRepository;
+
+    private final Map<Key, Bitmap> bitmaps = new ConcurrentHashMap<>();
+
+    public MessSkipBitmapStore(MessSkipBitmapRepository bitmapRepository,
+                               MessSkippingBatchRepository skippingRepository) {
+        this.bitmapRepository = bitmapRepository;
+        this.skippingRepository = skippingRepository;
+    }
+
+    // One student's meal on one day now is (or no longer is) skipped.
+    public record SkipChange(int studentId, LocalDate date, int meal, boolean skipped) {}
+
+    private record Key(LocalDate date, int meal) implements Comparable<Key> {
+        BitmapKey stored() {
+            return new BitmapKey(date, MEALS[meal]);
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int byDate = date.compareTo(other.date);
+            return byDate != 0 ? byDate : Integer.compare(meal, other.meal);
+        }
+    }
+
+    private record Bitmap(BitSet students, int count, long version) {}
+
+    // ===== READS =====
+    public MealSkipCounts counts(LocalDate date) {
+        Bitmap breakfast = bitmaps.get(new Key(date, 0));
+        Bitmap lunch = bitmaps.get(new Key(date, 1));
+        Bitmap dinner = bitmaps.get(new Key(date, 2));
+        int allMeals = 0;
+        if (breakfast != null && lunch != null && dinner != null) {
+            BitSet all = (BitSet) breakfast.students().clone();
+            all.and(lunch.students());
+            all.and(dinner.students());
+            allMeals = all.cardinality();
+        }
+        return new MealSkipCounts(date, count(breakfast), count(lunch), count(dinner), allMeals);
+    }
+
+    // Student ids who skipped the meal, ascending.
+    public int[] skippers(LocalDate date, int meal) {
+        Bitmap bitmap = bitmaps.get(new Key(date, meal));
+        return bitmap == null ? new int[0] : bitmap.students().stream().toArray();
+    }
+
+    public MonthlySkipCounts monthly(int studentId, YearMonth month) {
+        int[] meals = new int[MEALS.length];
+        int wholeDays = 0;
+        for (LocalDate date = month.atDay(1); !date.isAfter(month.atEndOfMonth()); date = date.plusDays(1)) {
+            int skipped = 0;
+            for (int meal = 0; meal < MEALS.length; meal++) {
+                Bitmap bitmap = bitmaps.get(new Key(date, meal));
+                if (bitmap != null && bitmap.students().get(studentId)) {
+                    meals[meal]++;
+                    skipped++;
+                }
+            }
+            if (skipped == MEALS.length) {
+                wholeDays++;
+            }
+        }
+        return new MonthlySkipCounts(studentId, month, meals[0], meals[1], meals[2], wholeDays);
+    }
+
+    // First day anyone skipped a meal, or null if nobody ever has.
+    public LocalDate firstDate() {
+        LocalDate first = null;
+        for (Key key : bitmaps.keySet()) {
+            if (first == null || key.date().isBefore(first)) {
+                first = key.date();
+            }
+        }
+        return first;
+    }
+
+    public int size() {
+        return bitmaps.size();
+    }
+
+    // ===== WRITES =====
+    // Rewrites the affected bitmaps in the caller's transaction; the new
+    // versions become visible once it commits.
+    @Transactional
+    public void record(Collection<SkipChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        // sorted, so overlapping writers lock bitmap rows in the same order
+        TreeMap<Key, List<SkipChange>> byKey = new TreeMap<>();
+        for (SkipChange change : changes) {
+            byKey.computeIfAbsent(new Key(change.date(), change.meal()), k -> new ArrayList<>()).add(change);
+        }
+        List<BitmapKey> keys = byKey.keySet().stream().map(Key::stored).toList();
+
+        Map<Key, StoredBitmap> stored = index(bitmapRepository.lock(keys));
+        if (stored.size() < byKey.size()) {
+            List<StoredBitmap> missing = new ArrayList<>();
+            for (Key key : byKey.keySet()) {
+                if (!stored.containsKey(key)) {
+                    missing.add(new StoredBitmap(key.date(), MEALS[key.meal()], EMPTY, 0, 0));
+                }
+            }
+            bitmapRepository.insertMissing(missing);
+            stored = index(bitmapRepository.lock(keys));
+        }
+
+        List<StoredBitmap> updates = new ArrayList<>(byKey.size());
+        Map<Key, Bitmap> fresh = new HashMap<>();
+        for (Map.Entry<Key, List<SkipChange>> entry : byKey.entrySet()) {
+            Key key = entry.getKey();
+            StoredBitmap current = stored.get(key);
+            BitSet students = BitmapCodec.decode(current.bits());
+            for (SkipChange change : entry.getValue()) {
+                students.set(change.studentId(), change.skipped());
+            }
+            long version = current.version() + 1;
+            int count = students.cardinality();
+            updates.add(new StoredBitmap(key.date(), MEALS[key.meal()], BitmapCodec.encode(students), count,
+                    version));
+            fresh.put(key, new Bitmap(students, count, version));
+        }
+        bitmapRepository.update(updates);
+        TransactionHooks.afterCommit(() -> fresh.forEach(this::install));
+    }
+
+    // Installs the persisted bitmaps without locking them. Returns how many were
+    // loaded; 0 with skips in MessSkipping means the table was never built.
+    @Transactional(readOnly = true)
+    public int load() {
+        int loaded = 0;
+        for (Map.Entry<Key, StoredBitmap> entry : index(bitmapRepository.findAll()).entrySet()) {
+            StoredBitmap row = entry.getValue();
+            install(entry.getKey(), new Bitmap(BitmapCodec.decode(row.bits()), row.skippedCount(), row.version()));
+            loaded++;
+        }
+        return loaded;
+    }
+
+    public boolean needsBuild() {
+        return bitmaps.isEmpty() && skippingRepository.anySkipped();
+    }
+
+    // Rebuilds every bitmap from the skipped rows of MessSkipping and rewrites
+    // the ones that differ. Holds all bitmap rows locked while it runs.
+    @Transactional
+    public MessSkipReconciliationResult reconcile() {
+        long start = System.currentTimeMillis();
+        Map<Key, StoredBitmap> stored = index(bitmapRepository.lockAll());
+        Map<Key, BitSet> built = new HashMap<>();
+        skippingRepository.forEachSkipped(skip -> {
+            int meal = mealIndex(skip.mealType());
+            if (meal >= 0) {
+                built.computeIfAbsent(new Key(skip.date(), meal), k -> new BitSet()).set(skip.studentId());
+            }
+        });
+
+        Set<Key> keys = new HashSet<>(stored.keySet());
+        keys.addAll(built.keySet());
+        List<StoredBitmap> inserts = new ArrayList<>();
+        List<StoredBitmap> updates = new ArrayList<>();
+        Map<Key, Bitmap> fresh = new HashMap<>();
+        long skips = 0;
+        long storedBytes = 0;
+        for (Key key : keys) {
+            BitSet students = built.getOrDefault(key, new BitSet());
+            int count = students.cardinality();
+            skips += count;
+            StoredBitmap current = stored.get(key);
+            if (current != null && BitmapCodec.decode(current.bits()).equals(students)) {
+                fresh.put(key, new Bitmap(students, count, current.version()));
+                storedBytes += current.bits().length;
+                continue;
+            }
+            long version = current == null ? 1 : current.version() + 1;
+            byte[] blob = BitmapCodec.encode(students);
+            storedBytes += blob.length;
+            (current == null ? inserts : updates).add(
+                    new StoredBitmap(key.date(), MEALS[key.meal()], blob, count, version));
+            fresh.put(key, new Bitmap(students, count, version));
+        }
+
+        for (int inserted : bitmapRepository.insertMissing(inserts)) {
+            if (inserted == 0) {
+                throw new IllegalStateException("A mess skip bitmap was created during reconciliation; retry");
+            }
+        }
+        bitmapRepository.update(updates);
+        TransactionHooks.afterCommit(() -> fresh.forEach(this::install));
+        return new MessSkipReconciliationResult(keys.size(), inserts.size() + updates.size(), skips, storedBytes,
+                System.currentTimeMillis() - start);
+    }
+
+    private void install(Key key, Bitmap bitmap) {
+        bitmaps.merge(key, bitmap, (old, fresh) -> fresh.version() >= old.version() ? fresh : old);
+    }
+
+    private static Map<Key, StoredBitmap> index(List<StoredBitmap> rows) {
+        Map<Key, StoredBitmap> byKey = new HashMap<>();
+        for (StoredBitmap row : rows) {
+            int meal = mealIndex(row.mealType());
+            if (meal >= 0) {
+                byKey.put(new Key(row.date(), meal), row);
+            }
+        }
+        return byKey;
+    }
+
+    private static int count(Bitmap bitmap) {
+        return bitmap == null ? 0 : bitmap.count();
+    }
+
+    static int mealIndex(String mealType) {
+        if (mealType == null) {
+            return -1;
+        }
+        String normalized = mealType.trim().toLowerCase(Locale.ROOT);
+        for (int i = 0; i < MEALS.length; i++) {
+            if (MEALS[i].toLowerCase(Locale.ROOT).equals(normalized)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,204 @@
+package com.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.dto.PaymentImportLine;
+import com.dto.PaymentImportReport;
+import com.repository.FeesBatchRepository;
+import com.repository.FeesBatchRepository.FeePayment;
+import com.repository.FeesBatchRepository.OutstandingFee;
+import com.util.CsvLine;
+import com.util.TransactionHooks;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Applies bank/UPI settlement files to outstanding fees.
+ *
+ * The file is read line by line and handled in chunks. Each chunk makes one
+ * lookup for outstanding fees, one lookup for known references and one JDBC
+ * batch update, whatever its size.
+ *
+ * Expected columns: reference,studentId,amount,paidDate,paymentMode
+ * (a header line starting with "reference" is skipped).
+ */
+@Service
+public class PaymentImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final double AMOUNT_TOLERANCE = 0.005;
+
+    private final FeesBatchRepository feesBatchRepository;
+    private final FeeAggregateService feeAggregateService;
+    private final FeesService feesService;
+
+    public PaymentImportService(FeesBatchRepository feesBatchRepository, FeeAggregateService feeAggregateService,
+                                FeesService feesService) {
+        this.feesBatchRepository = feesBatchRepository;
+        this.feeAggregateService = feeAggregateService;
+        this.feesService = feesService;
+    }
+
+    private record ParsedPayment(int line, String reference, Integer studentId, Double amount,
+                                 LocalDate paidDate, String paymentMode) {}
+
+    @Transactional
+    public PaymentImportReport importPayments(Reader source) throws IOException {
+        long start = System.currentTimeMillis();
+
+        List<PaymentImportLine> results = new ArrayList<>();
+        Set<String> seenReferences = new HashSet<>();
+        List<ParsedPayment> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(source)) {
+            String text;
+            int lineNo = 0;
+            while ((text = reader.readLine()) != null) {
+                lineNo++;
+                if (text.isBlank() || (lineNo == 1 && text.toLowerCase().startsWith("reference"))) {
+                    continue;
+                }
+                ParsedPayment payment = parse(lineNo, text, results);
+                if (payment == null) {
+                    continue;
+                }
+                chunk.add(payment);
+                if (chunk.size() == CHUNK_SIZE) {
+                    applyChunk(chunk, seenReferences, results);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            applyChunk(chunk, seenReferences, results);
+        }
+        TransactionHooks.afterCommit(feesService::invalidateSummary);
+
+        results.sort((a, b) -> Integer.compare(a.line(), b.line()));
+        int matched = 0, unmatched = 0, duplicates = 0, invalid = 0;
+        for (PaymentImportLine result : results) {
+            switch (result.outcome()) {
+                case "MATCHED" -> matched++;
+                case "UNMATCHED" -> unmatched++;
+                case "DUPLICATE" -> duplicates++;
+                default -> invalid++;
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        System.out.println("Payment import: " + matched + " matched, " + unmatched + " unmatched, "
+                + duplicates + " duplicates, " + invalid + " invalid in " + elapsed + " ms");
+        return new PaymentImportReport(matched, unmatched, duplicates, invalid, elapsed, results);
+    }
+
+    private ParsedPayment parse(int lineNo, String text, List<PaymentImportLine> results) {
+        // Settlement exports quote remarks and payment modes that contain commas
+        List<String> cols = CsvLine.parse(text);
+        String reference = cols.get(0);
+        if (cols.size() < 5) {
+            results.add(new PaymentImportLine(lineNo, reference, "INVALID", null, "Expected 5 columns"));
+            return null;
+        }
+        if (reference.isEmpty()) {
+            results.add(new PaymentImportLine(lineNo, reference, "INVALID", null, "Missing reference"));
+            return null;
+        }
+        try {
+            return new ParsedPayment(lineNo, reference,
+                    Integer.parseInt(cols.get(1)),
+                    Double.parseDouble(cols.get(2)),
+                    LocalDate.parse(cols.get(3)),
+                    cols.get(4));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            results.add(new PaymentImportLine(lineNo, reference, "INVALID", null, e.getMessage()));
+            return null;
+        }
+    }
+
+    private void applyChunk(List<ParsedPayment> chunk, Set<String> seenReferences, List<PaymentImportLine> results) {
+        Set<Integer> studentIds = new HashSet<>();
+        Set<String> references = new HashSet<>();
+        for (ParsedPayment payment : chunk) {
+            studentIds.add(payment.studentId());
+            references.add(payment.reference());
+        }
+
+        Set<String> knownReferences = feesBatchRepository.findExistingReferences(references);
+        Map<Integer, LinkedList<OutstandingFee>> outstanding = new HashMap<>();
+        for (OutstandingFee fee : feesBatchRepository.findOutstandingByStudentIds(studentIds)) {
+            outstanding.computeIfAbsent(fee.studentId(), k -> new LinkedList<>()).add(fee);
+        }
+
+        List<ParsedPayment> toApply = new ArrayList<>();
+        List<FeePayment> updates = new ArrayList<>();
+        List<Double> amounts = new ArrayList<>();
+
+        for (ParsedPayment payment : chunk) {
+            if (knownReferences.contains(payment.reference()) || !seenReferences.add(payment.reference())) {
+                results.add(new PaymentImportLine(payment.line(), payment.reference(), "DUPLICATE", null,
+                        "Reference already applied"));
+                continue;
+            }
+            OutstandingFee fee = takeMatch(outstanding.get(payment.studentId()), payment.amount());
+            if (fee == null) {
+                results.add(new PaymentImportLine(payment.line(), payment.reference(), "UNMATCHED", null,
+                        "No pending fee of " + payment.amount() + " for student " + payment.studentId()));
+                continue;
+            }
+            toApply.add(payment);
+            updates.add(new FeePayment(fee.feeId(), payment.paidDate(), payment.paymentMode(), payment.reference()));
+            amounts.add(fee.amount());
+        }
+
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        int[] counts = feesBatchRepository.markPaid(updates);
+        long paidCount = 0;
+        double paidAmount = 0;
+        for (int i = 0; i < counts.length; i++) {
+            ParsedPayment payment = toApply.get(i);
+            // Only a real row count proves the status = 'PENDING' guard matched
+            if (counts[i] > 0) {
+                paidCount++;
+                paidAmount += amounts.get(i);
+                results.add(new PaymentImportLine(payment.line(), payment.reference(), "MATCHED",
+                        updates.get(i).feeId(), null));
+            } else {
+                results.add(new PaymentImportLine(payment.line(), payment.reference(), "UNMATCHED", null,
+                        "Fee was paid by another request"));
+            }
+        }
+        feeAggregateService.add("PENDING", -paidCount, -paidAmount);
+        feeAggregateService.add("PAID", paidCount, paidAmount);
+    }
+
+    // Oldest outstanding fee of the student with the same amount.
+    private static OutstandingFee takeMatch(LinkedList<OutstandingFee> fees, Double amount) {
+        if (fees == null) {
+            return null;
+        }
+        Iterator<OutstandingFee> it = fees.iterator();
+        while (it.hasNext()) {
+            OutstandingFee fee = it.next();
+            if (Math.abs(fee.amount() - amount) < AMOUNT_TOLERANCE) {
+                it.remove();
+                return fee;
+            }
+        }
+        return null;
+    }
+}
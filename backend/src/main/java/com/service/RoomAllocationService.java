@@ -0,0 +1,572 @@
+package com.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dto.AllocationLine;
+import com.dto.AllocationPreference;
+import com.dto.AllocationResult;
+import com.repository.AllocationRepository;
+import com.repository.AllocationRepository.CandidateStudent;
+import com.repository.AllocationRepository.RoomSeats;
+import com.repository.AllocationRepository.StudentRoom;
+import com.repository.RoomsRepository;
+import com.repository.RoomsRepository.RoomAvailabilityView;
+import com.util.TransactionHooks;
+
+/**
+ * Places a batch of unassigned students into rooms at the start of a semester.
+ *
+ * Students who asked for each other (by college ID) are grouped and placed in
+ * one room. A room only ever holds one gender: rooms with residents keep
+ * theirs, and empty rooms are handed to the genders that are short of seats,
+ * floor by floor; any still unused at the end go to whoever is left. Within a
+ * gender, rooms are picked best-fit, preferring the requested floor and room
+ * type. Only available rooms with a capacity are used.
+ *
+ * Planning works on independent partitions in parallel: first one per
+ * (gender, floor) for students with a floor preference, then one per gender
+ * for everyone left, then a short sequential pass over leftovers. The plan is
+ * applied in one transaction with two guarded JDBC batches; if any student or
+ * room changed meanwhile, nothing is applied.
+ */
+@Service
+public class RoomAllocationService {
+
+    private final AllocationRepository allocationRepository;
+    private final RoomsRepository roomsRepository;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+    private final StudentProfileCache studentProfileCache;
+
+    public RoomAllocationService(AllocationRepository allocationRepository, RoomsRepository roomsRepository,
+                                 RoomAvailabilityIndex roomAvailabilityIndex, StudentProfileCache studentProfileCache) {
+        this.allocationRepository = allocationRepository;
+        this.roomsRepository = roomsRepository;
+        this.roomAvailabilityIndex = roomAvailabilityIndex;
+        this.studentProfileCache = studentProfileCache;
+    }
+
+    // A room with seats left; free and gender change as the plan fills it.
+    private static final class Slot {
+        final Integer roomId;
+        final String roomNo;
+        final String roomType;
+        final String floor;
+        final boolean empty;
+        final int initialFree;
+        int free;
+        String gender;
+
+        Slot(RoomAvailabilityView row, String gender) {
+            this.roomId = row.getRoomId();
+            this.roomNo = row.getRoomNo();
+            this.roomType = row.getRoomType();
+            this.floor = row.getFloor();
+            this.free = row.getCapacity() - (row.getCurrentOccupants() == null ? 0 : row.getCurrentOccupants());
+            this.initialFree = free;
+            this.gender = gender;
+            this.empty = gender == null;
+        }
+
+        // An empty room nobody has been planned into yet
+        boolean unused() {
+            return empty && free == initialFree;
+        }
+    }
+
+    // Students to be placed in the same room.
+    private record Group(List<CandidateStudent> members, String gender, String floor, String roomType,
+                         Integer anchorRoomId) {
+        int size() {
+            return members.size();
+        }
+    }
+
+    private record Placement(Group group, Slot slot) {}
+
+    private record PartitionResult(List<Placement> placed, List<Group> leftover) {}
+
+    // ===== ENTRY POINT =====
+    // With an empty preference list, every unassigned student is placed.
+    @Transactional
+    public AllocationResult allocate(List<AllocationPreference> preferences, boolean dryRun) {
+        long start = System.currentTimeMillis();
+
+        Map<Integer, AllocationPreference> preferenceById = new LinkedHashMap<>();
+        if (preferences != null) {
+            for (AllocationPreference preference : preferences) {
+                if (preference != null && preference.studentId() != null) {
+                    preferenceById.put(preference.studentId(), preference);
+                }
+            }
+        }
+
+        List<AllocationLine> lines = new ArrayList<>();
+        List<CandidateStudent> candidates = new ArrayList<>();
+        List<CandidateStudent> loaded = preferenceById.isEmpty()
+                ? allocationRepository.findUnassignedStudents()
+                : allocationRepository.findStudents(preferenceById.keySet());
+        Set<Integer> found = new HashSet<>();
+        for (CandidateStudent student : loaded) {
+            found.add(student.studentId());
+            if (student.roomId() != null) {
+                lines.add(unplaced(student, "Already assigned to room " + student.roomId()));
+            } else if (student.gender() == null || student.gender().isBlank()) {
+                lines.add(unplaced(student, "Gender not recorded"));
+            } else {
+                candidates.add(student);
+            }
+        }
+        for (Integer studentId : preferenceById.keySet()) {
+            if (!found.contains(studentId)) {
+                lines.add(new AllocationLine(studentId, null, null, null, null, null, null, "Student not found"));
+            }
+        }
+
+        List<Placement> placements = plan(candidates, preferenceById, lines);
+        long planMillis = System.currentTimeMillis() - start;
+
+        for (Placement placement : placements) {
+            for (CandidateStudent student : placement.group().members()) {
+                AllocationPreference preference = preferenceById.get(student.studentId());
+                lines.add(new AllocationLine(student.studentId(), student.collegeId(), student.gender(),
+                        placement.slot().roomId, placement.slot().roomNo,
+                        matched(preference == null ? null : preference.floor(), placement.slot().floor),
+                        matched(preference == null ? null : preference.roomType(), placement.slot().roomType),
+                        null));
+            }
+        }
+
+        long applyStart = System.currentTimeMillis();
+        if (!dryRun && !placements.isEmpty()) {
+            apply(placements);
+        }
+        long applyMillis = System.currentTimeMillis() - applyStart;
+
+        lines.sort(Comparator.comparing(AllocationLine::studentId));
+        int allocated = 0;
+        Set<Integer> roomsUsed = new HashSet<>();
+        for (AllocationLine line : lines) {
+            if (line.roomId() != null) {
+                allocated++;
+                roomsUsed.add(line.roomId());
+            }
+        }
+        System.out.println("Room allocation" + (dryRun ? " (dry run)" : "") + ": " + allocated + " of "
+                + lines.size() + " students placed in " + roomsUsed.size() + " rooms; plan " + planMillis
+                + " ms, apply " + applyMillis + " ms");
+        return new AllocationResult(dryRun, lines.size(), allocated, lines.size() - allocated, roomsUsed.size(),
+                planMillis, applyMillis, lines);
+    }
+
+    // ===== PLANNING =====
+    private List<Placement> plan(List<CandidateStudent> candidates, Map<Integer, AllocationPreference> preferenceById,
+                                 List<AllocationLine> lines) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, String> roomGenders = allocationRepository.findRoomGenders();
+        List<Slot> slots = new ArrayList<>();
+        int maxCapacity = 0;
+        for (RoomAvailabilityView row : roomsRepository.findAvailabilityRows()) {
+            if (!"available".equalsIgnoreCase(row.getStatus()) || row.getCapacity() == null || row.getCapacity() <= 0) {
+                continue;
+            }
+            String gender = roomGenders.get(row.getRoomId());
+            if (AllocationRepository.MIXED.equals(gender)) {
+                continue;
+            }
+            Slot slot = new Slot(row, gender);
+            if (slot.free > 0) {
+                slots.add(slot);
+                maxCapacity = Math.max(maxCapacity, row.getCapacity());
+            }
+        }
+        slots.sort(Comparator.comparing((Slot s) -> normalize(s.floor)).thenComparing(s -> s.roomNo));
+
+        List<Group> groups = groups(candidates, preferenceById, Math.max(maxCapacity, 1));
+        claimEmptyRooms(slots, groups);
+
+        Map<Integer, Slot> slotById = new HashMap<>();
+        Map<String, List<Slot>> slotsByGender = new HashMap<>();
+        for (Slot slot : slots) {
+            slotById.put(slot.roomId, slot);
+            if (slot.gender != null) {
+                slotsByGender.computeIfAbsent(slot.gender, k -> new ArrayList<>()).add(slot);
+            }
+        }
+
+        List<Placement> placements = new ArrayList<>();
+        List<Group> remaining = new ArrayList<>();
+
+        // Groups joining a roommate who already has a room
+        for (Group group : groups) {
+            Slot anchor = group.anchorRoomId() == null ? null : slotById.get(group.anchorRoomId());
+            if (anchor != null && group.gender().equals(anchor.gender) && anchor.free >= group.size()) {
+                anchor.free -= group.size();
+                placements.add(new Placement(group, anchor));
+            } else {
+                remaining.add(group);
+            }
+        }
+
+        // Phase 1: floor preferences, one partition per (gender, floor)
+        Map<String, List<Group>> byGenderFloor = new TreeMap<>();
+        List<Group> unpinned = new ArrayList<>();
+        for (Group group : remaining) {
+            if (group.floor() == null) {
+                unpinned.add(group);
+            } else {
+                byGenderFloor.computeIfAbsent(group.gender() + "|" + group.floor(), k -> new ArrayList<>()).add(group);
+            }
+        }
+        List<PartitionResult> phase1 = byGenderFloor.entrySet().parallelStream()
+                .map(e -> {
+                    List<Group> partition = e.getValue();
+                    String gender = partition.get(0).gender();
+                    String floor = partition.get(0).floor();
+                    List<Slot> rooms = new ArrayList<>();
+                    for (Slot slot : slotsByGender.getOrDefault(gender, List.of())) {
+                        if (normalize(slot.floor).equals(floor)) {
+                            rooms.add(slot);
+                        }
+                    }
+                    return place(partition, rooms, false);
+                })
+                .toList();
+
+        // Phase 2: everyone left, one partition per gender, any floor
+        Map<String, List<Group>> byGender = new TreeMap<>();
+        for (Group group : unpinned) {
+            byGender.computeIfAbsent(group.gender(), k -> new ArrayList<>()).add(group);
+        }
+        for (PartitionResult result : phase1) {
+            placements.addAll(result.placed());
+            for (Group group : result.leftover()) {
+                byGender.computeIfAbsent(group.gender(), k -> new ArrayList<>()).add(group);
+            }
+        }
+        List<PartitionResult> phase2 = byGender.entrySet().parallelStream()
+                .map(e -> place(e.getValue(), slotsByGender.getOrDefault(e.getKey(), List.of()), true))
+                .toList();
+
+        // Phase 3: the up-front split of empty rooms between genders is a guess,
+        // so empty rooms still unused are reopened to whoever is left
+        List<Group> leftover = new ArrayList<>();
+        for (PartitionResult result : phase2) {
+            placements.addAll(result.placed());
+            leftover.addAll(result.leftover());
+        }
+        if (!leftover.isEmpty()) {
+            List<Slot> reopened = new ArrayList<>();
+            for (Slot slot : slots) {
+                if (slot.unused()) {
+                    slot.gender = null;
+                    reopened.add(slot);
+                }
+            }
+            leftover.sort(Comparator.comparingInt(Group::size).reversed());
+            for (Group group : leftover) {
+                List<Slot> open = new ArrayList<>();
+                for (Slot slot : reopened) {
+                    if (slot.gender == null || slot.gender.equals(group.gender())) {
+                        open.add(slot);
+                    }
+                }
+                Slot slot = bestFit(open, group);
+                if (slot == null) {
+                    for (CandidateStudent student : group.members()) {
+                        lines.add(unplaced(student, "No room with a free seat for " + student.gender() + " students"));
+                    }
+                    continue;
+                }
+                slot.free -= group.size();
+                slot.gender = group.gender();
+                placements.add(new Placement(group, slot));
+            }
+        }
+        return placements;
+    }
+
+    // Best-fit placement inside one partition; with splitGroups, a group that
+    // fits nowhere is retried one student at a time.
+    private static PartitionResult place(List<Group> groups, List<Slot> rooms, boolean splitGroups) {
+        List<Placement> placed = new ArrayList<>();
+        List<Group> leftover = new ArrayList<>();
+        List<Group> queue = new ArrayList<>(groups);
+        queue.sort(Comparator.comparingInt(Group::size).reversed());
+
+        for (int i = 0; i < queue.size(); i++) {
+            Group group = queue.get(i);
+            Slot slot = bestFit(rooms, group);
+            if (slot != null) {
+                slot.free -= group.size();
+                placed.add(new Placement(group, slot));
+            } else if (splitGroups && group.size() > 1) {
+                for (CandidateStudent member : group.members()) {
+                    queue.add(new Group(List.of(member), group.gender(), group.floor(), group.roomType(), null));
+                }
+            } else {
+                leftover.add(group);
+            }
+        }
+        return new PartitionResult(placed, leftover);
+    }
+
+    // Fewest seats left over wins; the requested floor and room type come first.
+    private static Slot bestFit(List<Slot> rooms, Group group) {
+        Slot best = null;
+        int bestScore = Integer.MAX_VALUE;
+        for (Slot slot : rooms) {
+            if (slot.free < group.size()) {
+                continue;
+            }
+            int score = slot.free - group.size();
+            if (group.floor() != null && !group.floor().equals(normalize(slot.floor))) {
+                score += 10_000;
+            }
+            if (group.roomType() != null && !group.roomType().equals(normalize(slot.roomType))) {
+                score += 1_000;
+            }
+            if (score < bestScore) {
+                best = slot;
+                bestScore = score;
+                if (score == 0) {
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    // Students linked by roommate requests (either way round) and of the same gender,
+    // split into room-sized chunks. A group asking for someone who already has a
+    // room is anchored to that room.
+    private List<Group> groups(List<CandidateStudent> candidates, Map<Integer, AllocationPreference> preferenceById,
+                               int maxGroupSize) {
+        int n = candidates.size();
+        int[] parent = new int[n];
+        Map<String, Integer> indexByCollegeId = new HashMap<>();
+        Map<Integer, Integer> indexOf = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+            indexOf.put(candidates.get(i).studentId(), i);
+            if (candidates.get(i).collegeId() != null) {
+                indexByCollegeId.put(normalize(candidates.get(i).collegeId()), i);
+            }
+        }
+
+        Map<Integer, Set<String>> outsideRoommates = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            AllocationPreference preference = preferenceById.get(candidates.get(i).studentId());
+            if (preference == null || preference.roommates() == null) {
+                continue;
+            }
+            for (String collegeId : preference.roommates()) {
+                if (collegeId == null || collegeId.isBlank()) {
+                    continue;
+                }
+                Integer j = indexByCollegeId.get(normalize(collegeId));
+                if (j == null) {
+                    outsideRoommates.computeIfAbsent(i, k -> new HashSet<>()).add(collegeId.trim());
+                } else if (candidates.get(i).gender().equals(candidates.get(j).gender())) {
+                    union(parent, i, j);
+                }
+            }
+        }
+
+        // Roommates outside the batch who already live somewhere
+        Map<String, CandidateStudent> housedRoommates = new HashMap<>();
+        if (!outsideRoommates.isEmpty()) {
+            Set<String> collegeIds = new HashSet<>();
+            outsideRoommates.values().forEach(collegeIds::addAll);
+            for (CandidateStudent roommate : allocationRepository.findByCollegeIds(collegeIds)) {
+                if (roommate.roomId() != null && roommate.collegeId() != null) {
+                    housedRoommates.put(normalize(roommate.collegeId()), roommate);
+                }
+            }
+        }
+
+        Map<Integer, List<CandidateStudent>> members = new LinkedHashMap<>();
+        for (int i = 0; i < n; i++) {
+            members.computeIfAbsent(find(parent, i), k -> new ArrayList<>()).add(candidates.get(i));
+        }
+
+        List<Group> groups = new ArrayList<>();
+        for (List<CandidateStudent> group : members.values()) {
+            String floor = null;
+            String roomType = null;
+            for (CandidateStudent student : group) {
+                AllocationPreference preference = preferenceById.get(student.studentId());
+                if (preference != null) {
+                    floor = floor != null ? floor : blankToNull(preference.floor());
+                    roomType = roomType != null ? roomType : blankToNull(preference.roomType());
+                }
+            }
+            String gender = group.get(0).gender();
+            Integer anchorRoomId = null;
+            for (CandidateStudent student : group) {
+                for (String collegeId : outsideRoommates.getOrDefault(indexOf.get(student.studentId()), Set.of())) {
+                    CandidateStudent roommate = housedRoommates.get(normalize(collegeId));
+                    if (anchorRoomId == null && roommate != null && gender.equals(roommate.gender())) {
+                        anchorRoomId = roommate.roomId();
+                    }
+                }
+            }
+            for (int from = 0; from < group.size(); from += maxGroupSize) {
+                List<CandidateStudent> chunk = List.copyOf(group.subList(from, Math.min(from + maxGroupSize, group.size())));
+                groups.add(new Group(chunk, gender, normalizeOrNull(floor), normalizeOrNull(roomType),
+                        from == 0 ? anchorRoomId : null));
+            }
+        }
+        return groups;
+    }
+
+    // Hands each empty room to the gender most short of seats: first among
+    // students asking for that floor, then overall. Rooms nobody needs stay unclaimed.
+    private static void claimEmptyRooms(List<Slot> slots, List<Group> groups) {
+        Map<String, Integer> demand = new HashMap<>();
+        Map<String, Map<String, Integer>> floorDemand = new HashMap<>();
+        for (Group group : groups) {
+            demand.merge(group.gender(), group.size(), Integer::sum);
+            if (group.floor() != null) {
+                floorDemand.computeIfAbsent(group.floor(), k -> new HashMap<>())
+                        .merge(group.gender(), group.size(), Integer::sum);
+            }
+        }
+
+        List<Slot> empty = new ArrayList<>();
+        Map<String, Map<String, Integer>> floorSupply = new HashMap<>();
+        Map<String, Integer> supply = new HashMap<>();
+        for (Slot slot : slots) {
+            if (slot.gender == null) {
+                empty.add(slot);
+            } else {
+                supply.merge(slot.gender, slot.free, Integer::sum);
+                floorSupply.computeIfAbsent(normalize(slot.floor), k -> new HashMap<>())
+                        .merge(slot.gender, slot.free, Integer::sum);
+            }
+        }
+
+        List<Slot> unclaimed = new ArrayList<>();
+        for (Slot slot : empty) {
+            String floor = normalize(slot.floor);
+            String gender = mostShort(floorDemand.getOrDefault(floor, Map.of()),
+                    floorSupply.computeIfAbsent(floor, k -> new HashMap<>()));
+            if (gender == null) {
+                unclaimed.add(slot);
+                continue;
+            }
+            slot.gender = gender;
+            floorSupply.get(floor).merge(gender, slot.free, Integer::sum);
+            supply.merge(gender, slot.free, Integer::sum);
+        }
+        for (Slot slot : unclaimed) {
+            String gender = mostShort(demand, supply);
+            if (gender == null) {
+                break;
+            }
+            slot.gender = gender;
+            supply.merge(gender, slot.free, Integer::sum);
+        }
+    }
+
+    private static String mostShort(Map<String, Integer> demand, Map<String, Integer> supply) {
+        String best = null;
+        int bestShortfall = 0;
+        for (Map.Entry<String, Integer> entry : demand.entrySet()) {
+            int shortfall = entry.getValue() - supply.getOrDefault(entry.getKey(), 0);
+            if (shortfall > bestShortfall) {
+                best = entry.getKey();
+                bestShortfall = shortfall;
+            }
+        }
+        return best;
+    }
+
+    // ===== APPLY =====
+    private void apply(List<Placement> placements) {
+        List<StudentRoom> assignments = new ArrayList<>();
+        Map<Integer, Integer> seatsByRoom = new LinkedHashMap<>();
+        Map<Integer, String> genderByRoom = new HashMap<>();
+        for (Placement placement : placements) {
+            for (CandidateStudent student : placement.group().members()) {
+                assignments.add(new StudentRoom(student.studentId(), placement.slot().roomId));
+            }
+            seatsByRoom.merge(placement.slot().roomId, placement.group().size(), Integer::sum);
+            genderByRoom.put(placement.slot().roomId, placement.group().gender());
+        }
+        List<RoomSeats> rooms = new ArrayList<>();
+        seatsByRoom.forEach((roomId, seats) -> rooms.add(new RoomSeats(roomId, seats, genderByRoom.get(roomId))));
+
+        int[] studentCounts = allocationRepository.assignRooms(assignments);
+        for (int i = 0; i < studentCounts.length; i++) {
+            if (!applied(studentCounts[i])) {
+                throw new IllegalStateException("Student " + assignments.get(i).studentId()
+                        + " was assigned a room meanwhile; nothing was applied");
+            }
+        }
+        int[] roomCounts = allocationRepository.addOccupants(rooms);
+        for (int i = 0; i < roomCounts.length; i++) {
+            if (!applied(roomCounts[i])) {
+                throw new IllegalStateException("Room " + rooms.get(i).roomId()
+                        + " filled up or took a resident of another gender meanwhile; nothing was applied");
+            }
+        }
+
+        TransactionHooks.afterCommit(() -> {
+            roomAvailabilityIndex.rebuild();
+            studentProfileCache.clear();
+        });
+    }
+
+    // Only a real row count proves the guard matched; UPDATE batches report one per row
+    private static boolean applied(int count) {
+        return count > 0;
+    }
+
+    // ===== HELPERS =====
+    private static void union(int[] parent, int a, int b) {
+        parent[find(parent, a)] = find(parent, b);
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static AllocationLine unplaced(CandidateStudent student, String reason) {
+        return new AllocationLine(student.studentId(), student.collegeId(), student.gender(), null, null, null, null,
+                reason);
+    }
+
+    private static Boolean matched(String wanted, String actual) {
+        return wanted == null || wanted.isBlank() ? null : normalize(wanted).equals(normalize(actual));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static String normalizeOrNull(String value) {
+        return value == null ? null : normalize(value);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
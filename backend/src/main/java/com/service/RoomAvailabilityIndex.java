@@ -0,0 +1,256 @@
+package com.service;
+
+import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.dto.RoomAvailability;
+import com.dto.RoomAvailabilityDelta;
+import com.repository.RoomsRepository;
+import com.repository.RoomsRepository.RoomAvailabilityView;
+import com.util.TransactionHooks;
+
+/**
+ * In-memory view of bookable rooms for the admission page.
+ *
+ * Available rooms are indexed floor -> room type -> monthly rent, so a
+ * filtered lookup walks only the matching floors and types and a rent cap
+ * is a sorted range; free seats are checked per candidate. Only rooms with
+ * status 'available' are indexed.
+ *
+ * RoomsService reports every room it changes; the room's row is re-read once
+ * the change commits. A periodic rebuild from the table picks up anything
+ * changed outside the service. Every room that actually changed, either way,
+ * is published to RoomEventStream.
+ * Reads take no locks. Writes are serialized and copy-on-write: a refresh
+ * changes a copy of the index and swaps it in whole, so a reader never sees a
+ * room halfway between its old and new bucket.
+ */
+@Service
+public class RoomAvailabilityIndex {
+
+    private static final String ANY = "";
+
+    private final RoomsRepository roomsRepository;
+    private final RoomEventStream roomEventStream;
+
+    private volatile Index index = new Index();
+
+    public RoomAvailabilityIndex(RoomsRepository roomsRepository, RoomEventStream roomEventStream) {
+        this.roomsRepository = roomsRepository;
+        this.roomEventStream = roomEventStream;
+    }
+
+    // Only changed before it is published; readers see it after the volatile write.
+    private static final class Index {
+        final Map<Integer, RoomAvailability> rooms = new HashMap<>();
+        final Map<Integer, String> statuses = new HashMap<>();
+        // floor -> type -> rent -> room ids (keys lowercase); available rooms only
+        final Map<String, Map<String, NavigableMap<BigDecimal, Set<Integer>>>> available = new HashMap<>();
+
+        Index copy() {
+            Index copy = new Index();
+            copy.rooms.putAll(rooms);
+            copy.statuses.putAll(statuses);
+            available.forEach((floor, byType) -> {
+                Map<String, NavigableMap<BigDecimal, Set<Integer>>> types = new HashMap<>();
+                byType.forEach((type, byRent) -> {
+                    NavigableMap<BigDecimal, Set<Integer>> rents = new TreeMap<>();
+                    byRent.forEach((rent, ids) -> rents.put(rent, new HashSet<>(ids)));
+                    types.put(type, rents);
+                });
+                copy.available.put(floor, types);
+            });
+            return copy;
+        }
+
+        void put(RoomAvailability room, String status) {
+            remove(room.roomId());
+            rooms.put(room.roomId(), room);
+            statuses.put(room.roomId(), status == null ? ANY : status);
+            if ("available".equalsIgnoreCase(status)) {
+                available.computeIfAbsent(normalize(room.floor()), k -> new HashMap<>())
+                        .computeIfAbsent(normalize(room.roomType()), k -> new TreeMap<>())
+                        .computeIfAbsent(rentKey(room), k -> new HashSet<>())
+                        .add(room.roomId());
+            }
+        }
+
+        void remove(Integer roomId) {
+            RoomAvailability previous = rooms.remove(roomId);
+            statuses.remove(roomId);
+            if (previous == null) {
+                return;
+            }
+            Map<String, NavigableMap<BigDecimal, Set<Integer>>> byType = available.get(normalize(previous.floor()));
+            if (byType == null) {
+                return;
+            }
+            NavigableMap<BigDecimal, Set<Integer>> byRent = byType.get(normalize(previous.roomType()));
+            if (byRent == null) {
+                return;
+            }
+            Set<Integer> ids = byRent.get(rentKey(previous));
+            if (ids != null) {
+                ids.remove(roomId);
+                if (ids.isEmpty()) {
+                    byRent.remove(rentKey(previous));
+                }
+            }
+            if (byRent.isEmpty()) {
+                byType.remove(normalize(previous.roomType()));
+            }
+            if (byType.isEmpty()) {
+                available.remove(normalize(previous.floor()));
+            }
+        }
+    }
+
+    // ===== BUILD / MAINTAIN =====
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${rooms.availability.rebuild-interval-ms:300000}",
+               initialDelayString = "${rooms.availability.rebuild-interval-ms:300000}")
+    public synchronized void rebuild() {
+        Index previous = index;
+        Index fresh = new Index();
+        for (RoomAvailabilityView row : roomsRepository.findAvailabilityRows()) {
+            fresh.put(toAvailability(row), row.getStatus());
+        }
+        index = fresh;
+
+        for (RoomAvailability room : fresh.rooms.values()) {
+            String status = fresh.statuses.get(room.roomId());
+            if (changed(previous, room, status)) {
+                publish(room, status);
+            }
+        }
+        for (Integer roomId : previous.rooms.keySet()) {
+            if (!fresh.rooms.containsKey(roomId)) {
+                roomEventStream.publish(new RoomAvailabilityDelta(roomId, false, null));
+            }
+        }
+    }
+
+    // Re-reads the room once the change that touched it has committed.
+    public void roomChanged(Integer roomId) {
+        TransactionHooks.afterCommit(() -> refresh(roomId));
+    }
+
+    public synchronized void refresh(Integer roomId) {
+        RoomAvailabilityView row = roomsRepository.findAvailabilityRow(roomId).orElse(null);
+        Index current = index;
+        if (row == null) {
+            if (current.rooms.containsKey(roomId)) {
+                Index next = current.copy();
+                next.remove(roomId);
+                index = next;
+                roomEventStream.publish(new RoomAvailabilityDelta(roomId, false, null));
+            }
+            return;
+        }
+        RoomAvailability room = toAvailability(row);
+        String status = row.getStatus() == null ? ANY : row.getStatus();
+        if (!changed(current, room, status)) {
+            return;
+        }
+        Index next = current.copy();
+        next.put(room, row.getStatus());
+        index = next;
+        publish(room, status);
+    }
+
+    private static boolean changed(Index before, RoomAvailability room, String status) {
+        return !room.equals(before.rooms.get(room.roomId())) || !status.equals(before.statuses.get(room.roomId()));
+    }
+
+    private void publish(RoomAvailability room, String status) {
+        roomEventStream.publish(new RoomAvailabilityDelta(room.roomId(), "available".equalsIgnoreCase(status), room));
+    }
+
+    // ===== QUERY =====
+    // Any filter may be null. Results are ordered by room id.
+    public List<RoomAvailability> find(String floor, String type, BigDecimal maxRent, Integer minFreeSeats) {
+        Index current = index;
+        List<RoomAvailability> result = new ArrayList<>();
+        for (Map<String, NavigableMap<BigDecimal, Set<Integer>>> byType : select(current.available, floor)) {
+            for (NavigableMap<BigDecimal, Set<Integer>> byRent : select(byType, type)) {
+                NavigableMap<BigDecimal, Set<Integer>> inBudget = maxRent == null ? byRent : byRent.headMap(maxRent, true);
+                for (Set<Integer> ids : inBudget.values()) {
+                    for (Integer id : ids) {
+                        RoomAvailability room = current.rooms.get(id);
+                        if (room != null && hasSeats(room, minFreeSeats)) {
+                            result.add(room);
+                        }
+                    }
+                }
+            }
+        }
+        result.sort(Comparator.comparing(RoomAvailability::roomId));
+        return result;
+    }
+
+    // Strong validator for one serialized result: a SHA-256 of the exact bytes sent.
+    public static String etag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 12) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public int size() {
+        return index.rooms.size();
+    }
+
+    private static <V> Collection<V> select(Map<String, V> map, String key) {
+        if (key == null || key.isBlank()) {
+            return map.values();
+        }
+        V value = map.get(normalize(key));
+        return value == null ? List.of() : List.of(value);
+    }
+
+    private static boolean hasSeats(RoomAvailability room, Integer minFreeSeats) {
+        int needed = minFreeSeats == null ? 1 : Math.max(minFreeSeats, 1);
+        return room.freeSeats() == null || room.freeSeats() >= needed;
+    }
+
+    private static RoomAvailability toAvailability(RoomAvailabilityView row) {
+        int capacity = row.getCapacity() == null ? 0 : row.getCapacity();
+        int occupants = row.getCurrentOccupants() == null ? 0 : row.getCurrentOccupants();
+        return new RoomAvailability(row.getRoomId(), row.getRoomNo(), row.getRoomType(), row.getFloor(),
+                row.getMonthlyRent(), occupants, capacity,
+                capacity == 0 ? null : Math.max(capacity - occupants, 0));
+    }
+
+    // Rent compared by value, so 3000 and 3000.00 share a key.
+    private static BigDecimal rentKey(RoomAvailability room) {
+        return room.monthlyRent() == null ? BigDecimal.ZERO : room.monthlyRent().stripTrailingZeros();
+    }
+
+    private static String normalize(String value) {
+        return value == null ? ANY : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
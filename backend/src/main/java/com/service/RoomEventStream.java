@@ -0,0 +1,171 @@
+package com.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.dto.RoomAvailabilityDelta;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pushes committed room availability changes to admission pages over SSE.
+ *
+ * Each subscriber has its own pending map keyed by room, so a burst of
+ * changes to one room collapses into its latest state. Pending changes are
+ * flushed every flush interval as one "rooms" event, on a thread of their own
+ * per subscriber: a slow client only delays itself, and keeps coalescing
+ * while its previous send is in flight. A subscriber that falls more than
+ * max-pending rooms behind gets a single "resync" event instead and should
+ * reload /api/rooms/available.
+ *
+ * Clients should subscribe before loading the room list, so no change falls
+ * between the two.
+ */
+@Service
+public class RoomEventStream {
+
+    private final long timeoutMillis;
+    private final int maxPending;
+    private final int heartbeatTicks;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "room-events");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private long ticks;
+
+    public RoomEventStream(@Value("${rooms.events.timeout-ms:1800000}") long timeoutMillis,
+                           @Value("${rooms.events.flush-interval-ms:200}") long flushIntervalMillis,
+                           @Value("${rooms.events.max-pending:256}") int maxPending,
+                           @Value("${rooms.events.heartbeat-ms:20000}") long heartbeatMillis) {
+        this.timeoutMillis = timeoutMillis;
+        this.maxPending = maxPending;
+        this.heartbeatTicks = (int) Math.max(1, heartbeatMillis / flushIntervalMillis);
+        ticker.scheduleWithFixedDelay(this::tick, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private final class Subscriber {
+        final SseEmitter emitter = new SseEmitter(timeoutMillis);
+        // roomId -> latest change not yet sent
+        final Map<Integer, RoomAvailabilityDelta> pending = new LinkedHashMap<>();
+        boolean overflowed;
+        boolean sending;
+        boolean heartbeat;
+
+        synchronized void requestHeartbeat() {
+            heartbeat = true;
+        }
+
+        synchronized void offer(RoomAvailabilityDelta delta) {
+            if (overflowed) {
+                return;
+            }
+            pending.remove(delta.roomId());
+            pending.put(delta.roomId(), delta);
+            if (pending.size() > maxPending) {
+                pending.clear();
+                overflowed = true;
+            }
+        }
+
+        // Hands the batch to a sender unless one is still busy with the previous batch.
+        synchronized Runnable takeBatch() {
+            if (sending || (pending.isEmpty() && !overflowed && !heartbeat)) {
+                return null;
+            }
+            sending = true;
+            boolean resync = overflowed;
+            boolean ping = heartbeat;
+            List<RoomAvailabilityDelta> batch = new ArrayList<>(pending.values());
+            pending.clear();
+            overflowed = false;
+            heartbeat = false;
+            return () -> send(resync, ping, batch);
+        }
+
+        void send(boolean resync, boolean ping, List<RoomAvailabilityDelta> batch) {
+            try {
+                if (resync) {
+                    emitter.send(SseEmitter.event().name("resync").data("reload"));
+                } else if (!batch.isEmpty()) {
+                    emitter.send(SseEmitter.event().name("rooms").data(batch, MediaType.APPLICATION_JSON));
+                } else if (ping) {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // client went away; the emitter callbacks drop the subscriber
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+            } finally {
+                synchronized (this) {
+                    sending = false;
+                }
+            }
+        }
+    }
+
+    public SseEmitter subscribe() {
+        Subscriber subscriber = new Subscriber();
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return subscriber.emitter;
+    }
+
+    public void publish(RoomAvailabilityDelta delta) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(delta);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    // A comment line every heartbeat interval lets dead connections surface as send errors.
+    private void tick() {
+        try {
+            boolean ping = ++ticks % heartbeatTicks == 0;
+            for (Subscriber subscriber : subscribers) {
+                if (ping) {
+                    subscriber.requestHeartbeat();
+                }
+                Runnable batch = subscriber.takeBatch();
+                if (batch != null) {
+                    senders.execute(batch);
+                }
+            }
+        } catch (RuntimeException e) {
+            // keep the schedule alive
+            System.out.println("Room event flush failed: " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+}
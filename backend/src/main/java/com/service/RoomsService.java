@@ -1,10 +1,19 @@
 package com.service;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
 
+import com.dto.RoomAvailability;
+import com.dto.RoomOccupancyDrift;
+import com.dto.RoomReconciliationResult;
+import com.repository.RoomsBatchRepository;
+import com.repository.RoomsBatchRepository.OccupancyCorrection;
 import com.repository.RoomsRepository;
+import com.repository.RoomsRepository.RoomOccupancyDriftView;
+import com.util.TransactionHooks;
 import jakarta.transaction.Transactional;
 
 @Service
@@ -13,32 +22,93 @@ import jakarta.transaction.Transactional;
 public class RoomsService {
 
     private final RoomsRepository roomsRepository;
+    private final RoomsBatchRepository roomsBatchRepository;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
     
-    public RoomsService(RoomsRepository roomsRepository) {
+    public RoomsService(RoomsRepository roomsRepository, RoomsBatchRepository roomsBatchRepository,
+                        RoomAvailabilityIndex roomAvailabilityIndex) {
         this.roomsRepository = roomsRepository;
+        this.roomsBatchRepository = roomsBatchRepository;
+        this.roomAvailabilityIndex = roomAvailabilityIndex;
     }
 
     public List<Object[]> findAvailableRooms(){
         return roomsRepository.findAvailableRooms();
     }
-    public int updateRoomLogin(Integer roomId) {
-        int currentOccupants = roomsRepository.findCurrentOccupantsByRoomId(roomId);
-        currentOccupants += 1;
-        int updateCount = roomsRepository.updateOccupants(currentOccupants, roomId);
-        int capacity = roomsRepository.findCapacityByRoomId(roomId);
-        if (capacity !=0 && currentOccupants == capacity) {
-            roomsRepository.updateRoomStatus("occupied", roomId);
+
+    // Served from the in-memory index; any filter may be null.
+    public List<RoomAvailability> findAvailableRooms(String floor, String type, BigDecimal maxRent,
+                                                     Integer minFreeSeats) {
+        return roomAvailabilityIndex.find(floor, type, maxRent, minFreeSeats);
+    }
+
+    // One guarded UPDATE: true if a seat was taken, false if the room is full or unknown.
+    public boolean reserveSeat(Integer roomId) {
+        boolean reserved = roomsRepository.reserveSeat(roomId) > 0;
+        if (reserved) {
+            roomAvailabilityIndex.roomChanged(roomId);
         }
-        return updateCount;
+        return reserved;
+    }
+
+    // Counterpart of reserveSeat for a student leaving the room.
+    public boolean releaseSeat(Integer roomId) {
+        boolean released = roomsRepository.releaseSeat(roomId) > 0;
+        if (released) {
+            roomAvailabilityIndex.roomChanged(roomId);
+        }
+        return released;
+    }
+
+    public int updateRoomLogin(Integer roomId) {
+        return reserveSeat(roomId) ? 1 : 0;
     }
 
 
+    // Recomputes current_occupants and status from Student.room_id for every room
+    // that drifted (removals, deleted students, manual SQL). One query finds the drift
+    // and one batch writes it; each room gets exactly the values reported for it, and
+    // a room changed in between is skipped and left out of the result.
+    public RoomReconciliationResult reconcileOccupancy() {
+        long start = System.currentTimeMillis();
+        List<RoomOccupancyDriftView> drift = roomsRepository.findOccupancyDrift();
+        List<OccupancyCorrection> corrections = new ArrayList<>(drift.size());
+        for (RoomOccupancyDriftView row : drift) {
+            corrections.add(new OccupancyCorrection(row.getRoomId(), row.getActualOccupants(), row.getStatus(),
+                    row.getStoredOccupants(), row.getStoredStatus()));
+        }
+        int[] counts = roomsBatchRepository.correctOccupancy(corrections);
+
+        List<RoomOccupancyDrift> corrected = new ArrayList<>();
+        long occupantDrift = 0;
+        for (int i = 0; i < counts.length; i++) {
+            // only a real row count proves the guard matched
+            if (counts[i] <= 0) {
+                continue;
+            }
+            RoomOccupancyDriftView row = drift.get(i);
+            int stored = row.getStoredOccupants() == null ? 0 : row.getStoredOccupants();
+            occupantDrift += Math.abs(stored - row.getActualOccupants());
+            corrected.add(new RoomOccupancyDrift(row.getRoomId(), row.getRoomNo(), row.getStoredOccupants(),
+                    row.getActualOccupants(), row.getStoredStatus(), row.getStatus()));
+        }
+        if (!corrected.isEmpty()) {
+            TransactionHooks.afterCommit(roomAvailabilityIndex::rebuild);
+        }
+        return new RoomReconciliationResult(corrected.size(), occupantDrift, corrected,
+                System.currentTimeMillis() - start);
+    }
+
     int updateRoomStatus(String status, Integer roomId) {
-        return roomsRepository.updateRoomStatus(status, roomId);
+        int updated = roomsRepository.updateRoomStatus(status, roomId);
+        roomAvailabilityIndex.roomChanged(roomId);
+        return updated;
     }
 
     int updateOccupants(Integer currentOccupants, Integer roomId) {
-        return roomsRepository.updateOccupants(currentOccupants, roomId);
+        int updated = roomsRepository.updateOccupants(currentOccupants, roomId);
+        roomAvailabilityIndex.roomChanged(roomId);
+        return updated;
     }
 
 
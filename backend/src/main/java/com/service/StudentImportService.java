@@ -0,0 +1,319 @@
+package com.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.dto.StudentImportLine;
+import com.dto.StudentImportReport;
+import com.entity.Student;
+import com.repository.StudentBatchRepository;
+import com.repository.StudentBatchRepository.NewStudent;
+import com.util.CsvLine;
+import com.util.TransactionHooks;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bulk admission import from CSV.
+ *
+ * The first line is a header naming the columns (any order, case-insensitive):
+ * collegeId,name,gender,dob,course,stream,year,email,contactNo,address,
+ * guardianName,guardianContact,parentName,parentContact
+ * (address, parentName and parentContact are optional).
+ *
+ * Rows are validated as they are read and handled in chunks; each chunk makes
+ * one lookup for known emails, one for known college IDs and one JDBC batch
+ * insert. Emails and college IDs are compared case-insensitively, like the
+ * unique indexes on Student. Rejected rows are reported with every problem
+ * found, the rest are imported.
+ *
+ * Each chunk commits in its own transaction, so a chunk whose insert hits a
+ * unique key (a student registered since the lookup) is rolled back alone and
+ * retried row by row. Chunks committed before a failure later in the file stay
+ * imported.
+ */
+@Service
+public class StudentImportService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final List<String> REQUIRED = List.of("collegeid", "name", "gender", "dob", "course",
+            "stream", "year", "email", "contactno", "guardianname", "guardiancontact");
+
+    private final StudentBatchRepository studentBatchRepository;
+    private final StudentSearchIndex studentSearchIndex;
+    private final TransactionTemplate chunkTransaction;
+
+    public StudentImportService(StudentBatchRepository studentBatchRepository,
+                                StudentSearchIndex studentSearchIndex,
+                                PlatformTransactionManager transactionManager) {
+        this.studentBatchRepository = studentBatchRepository;
+        this.studentSearchIndex = studentSearchIndex;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    private record ParsedAdmission(int line, NewStudent student) {}
+
+    private record ImportedStudent(Integer studentId, NewStudent student) {}
+
+    public StudentImportReport importAdmissions(Reader source) throws IOException {
+        long start = System.currentTimeMillis();
+
+        List<StudentImportLine> results = new ArrayList<>();
+        Set<String> seenEmails = new HashSet<>();
+        Set<String> seenCollegeIds = new HashSet<>();
+        List<ParsedAdmission> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<ImportedStudent> imported = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(source)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalArgumentException("Admission file is empty");
+            }
+            Map<String, Integer> columns = columns(header);
+
+            String text;
+            int lineNo = 1;
+            while ((text = reader.readLine()) != null) {
+                lineNo++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                ParsedAdmission admission = parse(lineNo, CsvLine.parse(text), columns, results);
+                if (admission == null) {
+                    continue;
+                }
+                chunk.add(admission);
+                if (chunk.size() == CHUNK_SIZE) {
+                    insertChunk(chunk, seenEmails, seenCollegeIds, results, imported);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, seenEmails, seenCollegeIds, results, imported);
+        }
+
+        results.sort((a, b) -> Integer.compare(a.line(), b.line()));
+        int rejected = results.size() - imported.size();
+
+        long elapsed = System.currentTimeMillis() - start;
+        System.out.println("Admission import: " + imported.size() + " imported, " + rejected + " rejected in "
+                + elapsed + " ms");
+        return new StudentImportReport(imported.size(), rejected, elapsed, results);
+    }
+
+    // header name (lowercase) -> column index
+    private static Map<String, Integer> columns(String header) {
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = CsvLine.parse(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = new ArrayList<>();
+        for (String name : REQUIRED) {
+            if (!columns.containsKey(name)) {
+                missing.add(name);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Missing columns in header: " + missing);
+        }
+        return columns;
+    }
+
+    private ParsedAdmission parse(int lineNo, List<String> cols, Map<String, Integer> columns,
+                                  List<StudentImportLine> results) {
+        List<String> errors = new ArrayList<>();
+
+        String collegeId = required(cols, columns, "collegeid", 20, errors);
+        String name = required(cols, columns, "name", 100, errors);
+        String email = required(cols, columns, "email", 100, errors);
+        String contactNo = required(cols, columns, "contactno", 15, errors);
+        String guardianName = required(cols, columns, "guardianname", 100, errors);
+        String guardianContact = required(cols, columns, "guardiancontact", 15, errors);
+        String address = optional(cols, columns, "address", 100, errors);
+        String parentName = optional(cols, columns, "parentname", 100, errors);
+        String parentContact = optional(cols, columns, "parentcontact", 15, errors);
+
+        String gender = enumValue(cols, columns, "gender", Student.Gender.class, errors);
+        String course = enumValue(cols, columns, "course", Student.Course.class, errors);
+        String stream = enumValue(cols, columns, "stream", Student.Stream.class, errors);
+        String year = enumValue(cols, columns, "year", Student.Year.class, errors);
+
+        LocalDate dob = null;
+        String dobText = value(cols, columns, "dob");
+        if (dobText.isEmpty()) {
+            errors.add("dob is required");
+        } else {
+            try {
+                dob = LocalDate.parse(dobText);
+            } catch (DateTimeParseException e) {
+                errors.add("dob must be yyyy-MM-dd: " + dobText);
+            }
+        }
+
+        if (!email.isEmpty() && (email.indexOf('@') <= 0 || email.indexOf('@') == email.length() - 1)) {
+            errors.add("email is not valid: " + email);
+        }
+
+        if (!errors.isEmpty()) {
+            results.add(new StudentImportLine(lineNo, email, "REJECTED", null, errors));
+            return null;
+        }
+        return new ParsedAdmission(lineNo, new NewStudent(collegeId, name, gender, dob, course, stream, year,
+                email, contactNo, address, guardianName, guardianContact, parentName, parentContact));
+    }
+
+    private void insertChunk(List<ParsedAdmission> chunk, Set<String> seenEmails, Set<String> seenCollegeIds,
+                             List<StudentImportLine> results, List<ImportedStudent> imported) {
+        Set<String> emails = new HashSet<>();
+        Set<String> collegeIds = new HashSet<>();
+        for (ParsedAdmission admission : chunk) {
+            emails.add(StudentBatchRepository.normalize(admission.student().email()));
+            collegeIds.add(StudentBatchRepository.normalize(admission.student().collegeId()));
+        }
+        Set<String> knownEmails = studentBatchRepository.findExistingEmails(emails);
+        Set<String> knownCollegeIds = studentBatchRepository.findExistingCollegeIds(collegeIds);
+
+        List<ParsedAdmission> accepted = new ArrayList<>();
+        for (ParsedAdmission admission : chunk) {
+            NewStudent student = admission.student();
+            String email = StudentBatchRepository.normalize(student.email());
+            String collegeId = StudentBatchRepository.normalize(student.collegeId());
+            List<String> errors = new ArrayList<>();
+            if (knownEmails.contains(email)) {
+                errors.add("Email already registered");
+            } else if (seenEmails.contains(email)) {
+                errors.add("Email repeated in file");
+            }
+            if (knownCollegeIds.contains(collegeId)) {
+                errors.add("College ID already registered");
+            } else if (seenCollegeIds.contains(collegeId)) {
+                errors.add("College ID repeated in file");
+            }
+            if (!errors.isEmpty()) {
+                results.add(new StudentImportLine(admission.line(), student.email(), "REJECTED", null, errors));
+                continue;
+            }
+            seenEmails.add(email);
+            seenCollegeIds.add(collegeId);
+            accepted.add(admission);
+        }
+
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<NewStudent> rows = new ArrayList<>(accepted.size());
+        for (ParsedAdmission admission : accepted) {
+            rows.add(admission.student());
+        }
+        Map<String, Integer> ids = insert(rows);
+        if (ids != null) {
+            for (ParsedAdmission admission : accepted) {
+                imported(admission, ids, results, imported);
+            }
+            return;
+        }
+        // A row clashed with a student registered since the lookup and the chunk was
+        // rolled back: retry row by row and reject only the clashing ones
+        for (ParsedAdmission admission : accepted) {
+            ids = insert(List.of(admission.student()));
+            if (ids != null) {
+                imported(admission, ids, results, imported);
+            } else {
+                results.add(new StudentImportLine(admission.line(), admission.student().email(), "REJECTED",
+                        null, List.of("Email or college ID already registered")));
+            }
+        }
+    }
+
+    private static void imported(ParsedAdmission admission, Map<String, Integer> ids,
+                                 List<StudentImportLine> results, List<ImportedStudent> imported) {
+        NewStudent student = admission.student();
+        Integer studentId = ids.get(StudentBatchRepository.normalize(student.email()));
+        imported.add(new ImportedStudent(studentId, student));
+        results.add(new StudentImportLine(admission.line(), student.email(), "IMPORTED", studentId, List.of()));
+    }
+
+    // Inserts the rows in one transaction and returns their ids by normalized email, or null
+    // (nothing inserted) on a unique-key clash. The rows reach the search index once they commit.
+    private Map<String, Integer> insert(List<NewStudent> rows) {
+        try {
+            return chunkTransaction.execute(status -> {
+                studentBatchRepository.insertStudents(rows);
+                List<String> emails = new ArrayList<>(rows.size());
+                for (NewStudent student : rows) {
+                    emails.add(student.email());
+                }
+                Map<String, Integer> ids = studentBatchRepository.findIdsByEmail(emails);
+                TransactionHooks.afterCommit(() -> {
+                    for (NewStudent student : rows) {
+                        studentSearchIndex.index(ids.get(StudentBatchRepository.normalize(student.email())),
+                                student.name(), student.collegeId(), student.email(), student.contactNo());
+                    }
+                });
+                return ids;
+            });
+        } catch (DataIntegrityViolationException e) {
+            return null;
+        }
+    }
+
+    private static String value(List<String> cols, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        return index == null || index >= cols.size() ? "" : cols.get(index);
+    }
+
+    private static String required(List<String> cols, Map<String, Integer> columns, String column, int maxLength,
+                                   List<String> errors) {
+        String value = value(cols, columns, column);
+        if (value.isEmpty()) {
+            errors.add(column + " is required");
+        } else if (value.length() > maxLength) {
+            errors.add(column + " is longer than " + maxLength + " characters");
+        }
+        return value;
+    }
+
+    private static String optional(List<String> cols, Map<String, Integer> columns, String column, int maxLength,
+                                   List<String> errors) {
+        String value = value(cols, columns, column);
+        if (value.length() > maxLength) {
+            errors.add(column + " is longer than " + maxLength + " characters");
+        }
+        return value.isEmpty() ? null : value;
+    }
+
+    // Matches enum constants case-insensitively and returns the stored name.
+    private static <E extends Enum<E>> String enumValue(List<String> cols, Map<String, Integer> columns,
+                                                        String column, Class<E> type, List<String> errors) {
+        String value = value(cols, columns, column);
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equalsIgnoreCase(value)) {
+                return constant.name();
+            }
+        }
+        List<String> allowed = new ArrayList<>();
+        for (E constant : type.getEnumConstants()) {
+            allowed.add(constant.name());
+        }
+        errors.add(column + " must be one of " + allowed + (value.isEmpty() ? "" : ", got " + value));
+        return null;
+    }
+}
@@ -0,0 +1,201 @@
+package com.service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.dto.ProfileCacheMetrics;
+import com.dto.StudentProfile;
+import com.repository.StudentRepository;
+import com.repository.StudentRepository.StudentProfileView;
+import com.util.TransactionHooks;
+
+/**
+ * Bounded LRU cache of admin student profiles (personal data, room and roommates).
+ *
+ * Entries expire after a TTL and are dropped by StudentService whenever a write
+ * touches what they show: the student's own row, or a room change of a
+ * roommate. Because a profile lists roommates, a room change invalidates every
+ * cached member of both the old and the new room.
+ *
+ * Invalidation runs after the surrounding transaction commits, and a load that
+ * raced with an invalidation is returned but not cached, so a stale profile is
+ * never kept.
+ */
+@Service
+public class StudentProfileCache {
+
+    private final StudentRepository studentRepository;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private record CachedProfile(StudentProfile profile, long loadedAt) {}
+
+    // access-ordered: the first entry is the least recently used
+    private final LinkedHashMap<Integer, CachedProfile> entries = new LinkedHashMap<>(256, 0.75f, true);
+    // roomId -> cached students in that room
+    private final Map<Integer, Set<Integer>> byRoom = new HashMap<>();
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public StudentProfileCache(StudentRepository studentRepository,
+                               @Value("${students.profile-cache.max-size:5000}") int maxSize,
+                               @Value("${students.profile-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.studentRepository = studentRepository;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    // ===== READ =====
+    public Optional<StudentProfile> get(Integer studentId) {
+        long loadGeneration;
+        synchronized (this) {
+            CachedProfile cached = entries.get(studentId);
+            if (cached != null) {
+                if (System.currentTimeMillis() - cached.loadedAt() < ttlMillis) {
+                    hits.increment();
+                    return Optional.of(cached.profile());
+                }
+                removeEntry(studentId);
+            }
+            loadGeneration = generation;
+        }
+        misses.increment();
+
+        StudentProfile profile = load(studentId);
+        if (profile == null) {
+            return Optional.empty();
+        }
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                put(profile);
+            }
+        }
+        return Optional.of(profile);
+    }
+
+    private StudentProfile load(Integer studentId) {
+        StudentProfileView view = studentRepository.findProfileById(studentId).orElse(null);
+        if (view == null) {
+            return null;
+        }
+        List<String> roommates = view.getRoomId() == null
+                ? List.of()
+                : List.copyOf(studentRepository.findRoommatesByStudentId(studentId));
+        return new StudentProfile(view.getStudentId(), view.getName(), view.getCollegeId(), view.getGender(),
+                view.getDob(), view.getAdmissionDate(), view.getEmail(), view.getContactNo(),
+                view.getParentName(), view.getParentContact(), view.getGuardianName(), view.getGuardianContact(),
+                view.getAddress(), view.getCourse(), view.getStream(), view.getYear(), view.getAdmissionFee(),
+                view.getRoomId(), view.getRoomNo(), view.getFloor(), view.getMonthlyRent(), roommates);
+    }
+
+    // ===== INVALIDATION =====
+    // A change to the student's own row.
+    public void studentChanged(Integer studentId) {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (this) {
+                generation++;
+                if (removeEntry(studentId)) {
+                    invalidations.increment();
+                }
+            }
+        });
+    }
+
+    // The student moved between rooms (either side may be null).
+    public void roomChanged(Integer studentId, Integer oldRoomId, Integer newRoomId) {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (this) {
+                generation++;
+                if (removeEntry(studentId)) {
+                    invalidations.increment();
+                }
+                removeRoom(oldRoomId);
+                removeRoom(newRoomId);
+            }
+        });
+    }
+
+    public synchronized void clear() {
+        generation++;
+        invalidations.add(entries.size());
+        entries.clear();
+        byRoom.clear();
+    }
+
+    // ===== BOOKKEEPING (callers hold the lock) =====
+    private void put(StudentProfile profile) {
+        removeEntry(profile.studentId());
+        entries.put(profile.studentId(), new CachedProfile(profile, System.currentTimeMillis()));
+        if (profile.roomId() != null) {
+            byRoom.computeIfAbsent(profile.roomId(), k -> new HashSet<>()).add(profile.studentId());
+        }
+        Iterator<Map.Entry<Integer, CachedProfile>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            StudentProfile evicted = eldest.next().getValue().profile();
+            eldest.remove();
+            unindex(evicted);
+            evictions.increment();
+        }
+    }
+
+    private boolean removeEntry(Integer studentId) {
+        CachedProfile removed = entries.remove(studentId);
+        if (removed == null) {
+            return false;
+        }
+        unindex(removed.profile());
+        return true;
+    }
+
+    private void removeRoom(Integer roomId) {
+        if (roomId == null) {
+            return;
+        }
+        Set<Integer> members = byRoom.remove(roomId);
+        if (members == null) {
+            return;
+        }
+        for (Integer studentId : members) {
+            if (entries.remove(studentId) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    private void unindex(StudentProfile profile) {
+        if (profile.roomId() == null) {
+            return;
+        }
+        Set<Integer> members = byRoom.get(profile.roomId());
+        if (members != null) {
+            members.remove(profile.studentId());
+            if (members.isEmpty()) {
+                byRoom.remove(profile.roomId());
+            }
+        }
+    }
+
+    // ===== METRICS =====
+    public synchronized ProfileCacheMetrics getMetrics() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        double hitRate = total == 0 ? 0.0 : Math.round(hitCount * 10000.0 / total) / 100.0;
+        return new ProfileCacheMetrics(entries.size(), maxSize, ttlMillis / 1000, hitCount, missCount, hitRate,
+                evictions.sum(), invalidations.sum());
+    }
+}
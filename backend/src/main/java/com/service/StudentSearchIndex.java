@@ -0,0 +1,332 @@
+package com.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.dto.SearchIndexMetrics;
+import com.dto.StudentSearchHit;
+import com.entity.Student;
+import com.repository.StudentRepository;
+
+/**
+ * In-process type-ahead index over student name, college ID, email and contact number.
+ *
+ * Every field is split into lowercase tokens held in a sorted map, so a query
+ * term is answered by a prefix range scan instead of a LIKE '%x%' table scan.
+ * Name words and contact digits are also posted by trigram, so a term of three
+ * or more characters still finds a fragment from the middle of a name or
+ * phone number; trigram candidates are checked against the text before they
+ * count. Multi-word queries must match every term. Hits are ranked by field
+ * (IDs before names), exact over prefix over infix matches, and closeness of
+ * the match.
+ *
+ * Built on startup, updated by StudentService on every write, and rebuildable
+ * on demand. Reads take no locks; writes and rebuilds are serialized.
+ */
+@Service
+public class StudentSearchIndex {
+
+    private static final int ID_WEIGHT = 3;      // college ID, full email, contact number
+    private static final int NAME_WEIGHT = 2;    // words of the name
+    private static final int PART_WEIGHT = 1;    // pieces of the email address
+
+    private static final int MAX_LIMIT = 50;
+    private static final int GRAM = 3;
+
+    private final StudentRepository studentRepository;
+
+    private volatile Index index = new Index();
+    private volatile LocalDateTime lastRebuildAt;
+    private volatile long lastRebuildMillis;
+
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder queryNanos = new LongAdder();
+
+    public StudentSearchIndex(StudentRepository studentRepository) {
+        this.studentRepository = studentRepository;
+    }
+
+    // nameWords and digits are the normalized texts that trigram candidates are checked against
+    private record Entry(Integer studentId, String name, String collegeId, String email, String contactNo,
+                         Map<String, Integer> tokens, List<String> nameWords, String digits, Set<String> grams) {}
+
+    private static final class Index {
+        final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+        // token -> (studentId -> field weight)
+        final ConcurrentSkipListMap<String, Map<Integer, Integer>> tokens = new ConcurrentSkipListMap<>();
+        // trigram -> studentIds, for infix matches on name words and contact digits
+        final Map<String, Set<Integer>> grams = new ConcurrentHashMap<>();
+        final AtomicLong postings = new AtomicLong();
+
+        void add(Entry entry) {
+            Entry previous = entries.put(entry.studentId(), entry);
+            if (previous != null) {
+                removeTokens(previous);
+            }
+            entry.tokens().forEach((token, weight) -> {
+                tokens.computeIfAbsent(token, k -> new ConcurrentHashMap<>()).put(entry.studentId(), weight);
+                postings.incrementAndGet();
+            });
+            for (String gram : entry.grams()) {
+                grams.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(entry.studentId());
+                postings.incrementAndGet();
+            }
+        }
+
+        void remove(Integer studentId) {
+            Entry previous = entries.remove(studentId);
+            if (previous != null) {
+                removeTokens(previous);
+            }
+        }
+
+        private void removeTokens(Entry entry) {
+            for (String token : entry.tokens().keySet()) {
+                tokens.computeIfPresent(token, (k, ids) -> {
+                    if (ids.remove(entry.studentId()) != null) {
+                        postings.decrementAndGet();
+                    }
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+            for (String gram : entry.grams()) {
+                grams.computeIfPresent(gram, (k, ids) -> {
+                    if (ids.remove(entry.studentId())) {
+                        postings.decrementAndGet();
+                    }
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+    }
+
+    // ===== BUILD / MAINTAIN =====
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    public synchronized SearchIndexMetrics rebuild() {
+        long start = System.currentTimeMillis();
+        Index fresh = new Index();
+        for (Object[] row : studentRepository.findSearchFields()) {
+            fresh.add(entry(((Number) row[0]).intValue(), (String) row[1], (String) row[2],
+                    (String) row[3], (String) row[4]));
+        }
+        index = fresh;
+        lastRebuildAt = LocalDateTime.now();
+        lastRebuildMillis = System.currentTimeMillis() - start;
+        System.out.println("Student search index rebuilt: " + fresh.entries.size() + " students in "
+                + lastRebuildMillis + " ms");
+        return getMetrics();
+    }
+
+    public synchronized void index(Student student) {
+        if (student == null || student.getStudentId() == null) {
+            return;
+        }
+        index(student.getStudentId(), student.getName(), student.getCollegeId(),
+                student.getEmail(), student.getContactNo());
+    }
+
+    public synchronized void index(Integer studentId, String name, String collegeId, String email,
+                                   String contactNo) {
+        index.add(entry(studentId, name, collegeId, email, contactNo));
+    }
+
+    public synchronized void remove(Integer studentId) {
+        index.remove(studentId);
+    }
+
+    // ===== QUERY =====
+    public List<StudentSearchHit> search(String query, int limit) {
+        long start = System.nanoTime();
+        try {
+            List<String> terms = terms(query);
+            if (terms.isEmpty()) {
+                return List.of();
+            }
+            Index current = index;
+
+            Map<Integer, Integer> scores = null;
+            for (String term : terms) {
+                Map<Integer, Integer> termScores = scoreTerm(current, term);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    // every term has to match
+                    Map<Integer, Integer> merged = new HashMap<>();
+                    for (Map.Entry<Integer, Integer> hit : termScores.entrySet()) {
+                        Integer previous = scores.get(hit.getKey());
+                        if (previous != null) {
+                            merged.put(hit.getKey(), previous + hit.getValue());
+                        }
+                    }
+                    scores = merged;
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<StudentSearchHit> hits = new ArrayList<>(scores.size());
+            for (Map.Entry<Integer, Integer> hit : scores.entrySet()) {
+                Entry entry = current.entries.get(hit.getKey());
+                if (entry != null) {
+                    hits.add(new StudentSearchHit(entry.studentId(), entry.name(), entry.collegeId(),
+                            entry.email(), entry.contactNo(), hit.getValue()));
+                }
+            }
+            hits.sort(Comparator.comparingInt(StudentSearchHit::score).reversed()
+                    .thenComparing(StudentSearchHit::name, Comparator.nullsLast(String::compareTo)));
+            int max = Math.min(Math.max(limit, 1), MAX_LIMIT);
+            return hits.size() > max ? List.copyOf(hits.subList(0, max)) : hits;
+        } finally {
+            queries.increment();
+            queryNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    // Best score per student for one query term, over all tokens starting with it
+    // and, for longer terms, every name word or contact number containing it.
+    private static Map<Integer, Integer> scoreTerm(Index current, String term) {
+        Map<Integer, Integer> scores = new HashMap<>();
+        ConcurrentNavigableMap<String, Map<Integer, Integer>> matches =
+                current.tokens.subMap(term, true, term + Character.MAX_VALUE, true);
+        for (Map.Entry<String, Map<Integer, Integer>> match : matches.entrySet()) {
+            String token = match.getKey();
+            int closeness = Math.max(0, 10 - (token.length() - term.length()));
+            int exact = token.length() == term.length() ? 20 : 0;
+            for (Map.Entry<Integer, Integer> posting : match.getValue().entrySet()) {
+                int score = posting.getValue() * 10 + exact + closeness;
+                scores.merge(posting.getKey(), score, Math::max);
+            }
+        }
+        if (term.length() >= GRAM) {
+            infixMatches(current, term).forEach((studentId, score) -> scores.merge(studentId, score, Math::max));
+        }
+        return scores;
+    }
+
+    // Students whose name words or contact digits contain the term, found by intersecting
+    // the postings of its trigrams. Scored below any prefix match on the same field.
+    private static Map<Integer, Integer> infixMatches(Index current, String term) {
+        Set<Integer> candidates = null;
+        for (String gram : grams(term)) {
+            Set<Integer> ids = current.grams.get(gram);
+            if (ids == null) {
+                return Map.of();
+            }
+            if (candidates == null) {
+                candidates = new HashSet<>(ids);
+            } else {
+                candidates.retainAll(ids);
+            }
+            if (candidates.isEmpty()) {
+                return Map.of();
+            }
+        }
+        Map<Integer, Integer> scores = new HashMap<>();
+        for (Integer studentId : candidates) {
+            Entry entry = current.entries.get(studentId);
+            if (entry == null) {
+                continue;
+            }
+            if (entry.digits() != null && entry.digits().contains(term)) {
+                scores.put(studentId, ID_WEIGHT * 10 - 5);
+            } else if (entry.nameWords().stream().anyMatch(word -> word.contains(term))) {
+                scores.put(studentId, NAME_WEIGHT * 10 - 5);
+            }
+        }
+        return scores;
+    }
+
+    public SearchIndexMetrics getMetrics() {
+        Index current = index;
+        long count = queries.sum();
+        double avgMicros = count == 0 ? 0.0 : queryNanos.sum() / 1000.0 / count;
+        return new SearchIndexMetrics(current.entries.size(), current.tokens.size(), current.postings.get(),
+                lastRebuildAt, lastRebuildMillis, count, Math.round(avgMicros * 100.0) / 100.0);
+    }
+
+    // ===== TOKENIZING =====
+    private static Entry entry(Integer studentId, String name, String collegeId, String email, String contactNo) {
+        Map<String, Integer> tokens = new HashMap<>();
+        List<String> nameWords = new ArrayList<>();
+        Set<String> grams = new HashSet<>();
+        if (name != null) {
+            for (String word : normalize(name).split("[^\\p{L}\\p{N}]+")) {
+                put(tokens, word, NAME_WEIGHT);
+                if (!word.isEmpty()) {
+                    nameWords.add(word);
+                    grams.addAll(grams(word));
+                }
+            }
+        }
+        if (collegeId != null) {
+            put(tokens, normalize(collegeId), ID_WEIGHT);
+        }
+        if (email != null) {
+            String normalized = normalize(email);
+            put(tokens, normalized, ID_WEIGHT);
+            for (String part : normalized.split("[._@+-]+")) {
+                put(tokens, part, PART_WEIGHT);
+            }
+        }
+        String digits = null;
+        if (contactNo != null) {
+            digits = contactNo.replaceAll("\\D", "");
+            put(tokens, digits, ID_WEIGHT);
+            grams.addAll(grams(digits));
+        }
+        return new Entry(studentId, name, collegeId, email, contactNo, Map.copyOf(tokens),
+                List.copyOf(nameWords), digits, Set.copyOf(grams));
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static void put(Map<String, Integer> tokens, String token, int weight) {
+        if (!token.isEmpty()) {
+            tokens.merge(token, weight, Math::max);
+        }
+    }
+
+    private static List<String> terms(String query) {
+        List<String> terms = new ArrayList<>();
+        if (query == null) {
+            return terms;
+        }
+        for (String term : normalize(query).split("\\s+")) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,22 +1,45 @@
 package com.service;
 
+import com.dto.StudentProfile;
+import com.dto.StudentTablePage;
+import com.dto.StudentTableRow;
 import com.entity.Student;
+import com.repository.StudentQueryRepository;
+import com.repository.StudentQueryRepository.StudentTableFilter;
 import com.repository.StudentRepository;
+import com.util.TransactionHooks;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 
 @Service
 @Transactional
 public class StudentService {
     
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final StudentRepository studentRepository;
+    private final StudentQueryRepository studentQueryRepository;
+    private final StudentSearchIndex studentSearchIndex;
+    private final StudentProfileCache studentProfileCache;
+    private final RoomsService roomsService;
     
-    public StudentService(StudentRepository studentRepository) {
+    public StudentService(StudentRepository studentRepository, StudentQueryRepository studentQueryRepository,
+                          StudentSearchIndex studentSearchIndex, StudentProfileCache studentProfileCache,
+                          RoomsService roomsService) {
         this.studentRepository = studentRepository;
+        this.studentQueryRepository = studentQueryRepository;
+        this.studentSearchIndex = studentSearchIndex;
+        this.studentProfileCache = studentProfileCache;
+        this.roomsService = roomsService;
     }
 
    // ===== REGISTRATION METHOD  =====
@@ -26,58 +49,133 @@ public Student registerStudent(String collegeId, String name, String gender, Loc
                              String guardianContact, String parentName, String parentContact) {
     
     try {
-        // Convert String parameters to Enum types
-        Student.Gender genderEnum = Student.Gender.valueOf(gender);
-        Student.Course courseEnum = Student.Course.valueOf(course);
-        Student.Stream streamEnum = Student.Stream.valueOf(stream);
-        Student.Year yearEnum = Student.Year.valueOf(year);
-        
-        // Create student entity with proper enum types
-        Student student = new Student();
-        student.setCollegeId(collegeId);
-        student.setName(name);
-        student.setGender(genderEnum);
-        student.setCourse(courseEnum);
-        student.setStream(streamEnum);
-        student.setDob(dob);
-        student.setYear(yearEnum);
-        student.setEmail(email);
-        student.setContactNo(contactNo);
-        student.setAddress(address);
-        student.setGuardianName(guardianName);
-        student.setGuardianContact(guardianContact);
-        student.setParentName(parentName);
-        student.setParentContact(parentContact);
-        
-        // Set defaults
-        student.setPassword("defaultPassword");
-        student.setAdmissionDate(LocalDate.now());
-        student.setCreatedAt(LocalDateTime.now());
-        student.setAdmissionFee(false);
+        Student student = newStudent(collegeId, name, gender, dob, course, stream, year, email, contactNo,
+                address, guardianName, guardianContact, parentName, parentContact);
         
         // Use standard JPA save (avoids the casting issue)
-        return studentRepository.save(student);
+        Student saved = studentRepository.save(student);
+        TransactionHooks.afterCommit(() -> studentSearchIndex.index(saved));
+        return saved;
         
     } catch (IllegalArgumentException e) {
         throw new RuntimeException("Invalid enum value: " + e.getMessage());
+    } catch (DataIntegrityViolationException e) {
+        throw duplicateOrFailure(e, email, collegeId);
     } catch (Exception e) {
         throw new RuntimeException("Failed to register student: " + e.getMessage());
     }
 }
 
+// ===== ONE-STEP ADMISSION =====
+// Registration, admission fee, room seat and password in one transaction: the
+// student row is inserted once with all of them set, and a full room rolls
+// the whole admission back instead of leaving a half-registered student.
+public Student admitStudent(String collegeId, String name, String gender, LocalDate dob,
+                            String course, String stream, String year,
+                            String email, String contactNo, String address, String guardianName,
+                            String guardianContact, String parentName, String parentContact,
+                            Integer roomId, String password) {
+    if (password == null || password.isEmpty()) {
+        throw new IllegalArgumentException("Password cannot be empty");
+    }
+    if (roomId == null) {
+        throw new IllegalArgumentException("Room is required");
+    }
+    // Taken first, so the seat is held (row-locked) for the rest of the admission
+    if (!roomsService.reserveSeat(roomId)) {
+        throw new IllegalStateException("Room " + roomId + " is full or does not exist");
+    }
+
+    Student student = newStudent(collegeId, name, gender, dob, course, stream, year, email, contactNo,
+            address, guardianName, guardianContact, parentName, parentContact);
+    student.setAdmissionFee(true);
+    student.setRoomId(roomId);
+    student.setPassword(password);
+
+    Student saved;
+    try {
+        saved = studentRepository.save(student);
+    } catch (DataIntegrityViolationException e) {
+        throw duplicateOrFailure(e, email, collegeId);
+    }
+
+    TransactionHooks.afterCommit(() -> studentSearchIndex.index(saved));
+    studentProfileCache.roomChanged(saved.getStudentId(), null, roomId);
+    return saved;
+}
+
+// The unique email/college_id constraints are the duplicate check: a clash comes
+// back as IllegalStateException naming the field, anything else as a failure.
+private static RuntimeException duplicateOrFailure(DataIntegrityViolationException e, String email,
+                                                   String collegeId) {
+    if (!isDuplicateKey(e)) {
+        return new RuntimeException("Failed to register student: " + e.getMostSpecificCause().getMessage());
+    }
+    String detail = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+    if (email != null && detail.contains(email.toLowerCase(Locale.ROOT))) {
+        return new IllegalStateException("Email already registered");
+    }
+    if (collegeId != null && detail.contains(collegeId.toLowerCase(Locale.ROOT))) {
+        return new IllegalStateException("College ID already registered");
+    }
+    return new IllegalStateException("Student already registered");
+}
+
+// 23505 is the standard unique-violation state; MySQL reports 23000 with error 1062.
+private static boolean isDuplicateKey(Throwable e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+        if (cause instanceof SQLException sql) {
+            return "23505".equals(sql.getSQLState()) || sql.getErrorCode() == 1062;
+        }
+    }
+    return false;
+}
+
+// New student with registration defaults; enum names must match exactly.
+private static Student newStudent(String collegeId, String name, String gender, LocalDate dob,
+                                  String course, String stream, String year,
+                                  String email, String contactNo, String address, String guardianName,
+                                  String guardianContact, String parentName, String parentContact) {
+    Student student = new Student();
+    student.setCollegeId(collegeId);
+    student.setName(name);
+    student.setGender(Student.Gender.valueOf(gender));
+    student.setCourse(Student.Course.valueOf(course));
+    student.setStream(Student.Stream.valueOf(stream));
+    student.setDob(dob);
+    student.setYear(Student.Year.valueOf(year));
+    student.setEmail(email);
+    student.setContactNo(contactNo);
+    student.setAddress(address);
+    student.setGuardianName(guardianName);
+    student.setGuardianContact(guardianContact);
+    student.setParentName(parentName);
+    student.setParentContact(parentContact);
+
+    // Set defaults
+    student.setPassword("defaultPassword");
+    student.setAdmissionDate(LocalDate.now());
+    student.setCreatedAt(LocalDateTime.now());
+    student.setAdmissionFee(false);
+    return student;
+}
+
     // ===== LOGIN METHOD =====
-    public Student login(String email, String password) {
-        Student student = studentRepository.findByEmail(email).orElse(null);
+    // Reads only id, name and password; the full Student row is never loaded or returned.
+    public StudentRepository.StudentCredentials login(String email, String password) {
+        StudentRepository.StudentCredentials credentials = studentRepository.findCredentialsByEmail(email).orElse(null);
             
-        if (student == null) {
+        if (credentials == null) {
             throw new IllegalArgumentException("Invalid email");
         }
         
-        if (!password.equals(student.getPassword())) {
+        if (password == null || !MessageDigest.isEqual(
+                password.getBytes(StandardCharsets.UTF_8),
+                String.valueOf(credentials.getPassword()).getBytes(StandardCharsets.UTF_8))) {
             throw new IllegalArgumentException("Invalid password");
         }
         
-        return student;
+        return credentials;
     }
 
 
@@ -86,10 +184,37 @@ public List<Object[]> findStudentRoomFeeInfo() {
 }
 
 
+// ===== ADMIN STUDENT TABLE =====
+@Transactional(readOnly = true)
+public StudentTablePage getStudentTablePage(StudentTableFilter filter, String sort, boolean ascending,
+                                            int page, int size) {
+    if (sort != null && !StudentQueryRepository.isSortable(sort)) {
+        throw new IllegalArgumentException("Cannot sort by " + sort);
+    }
+    int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    int pageNo = Math.max(page, 0);
+
+    List<StudentTableRow> rows = studentQueryRepository.findPage(filter, sort, ascending, pageNo * pageSize, pageSize);
+    long total = studentQueryRepository.count(filter);
+    return new StudentTablePage(rows, pageNo, pageSize, total, (int) ((total + pageSize - 1) / pageSize));
+}
+
+@Transactional(readOnly = true)
+public List<StudentTableRow> getStudentTable() {
+    return studentQueryRepository.findAll();
+}
+
+
 public Object[] getPersonalDataByStudentById(Integer studentId) {
     return studentRepository.getPersonalDataByStudentById(studentId).orElse(null);
 }
 
+// Personal data, room and roommates in one cached read.
+@Transactional(readOnly = true)
+public StudentProfile getProfile(Integer studentId) {
+    return studentProfileCache.get(studentId).orElse(null);
+}
+
 public List<String> findRoommatesByStudentId(Integer studentId) {
     System.out.println("Finding roommates for student ID: " + studentId);
     List<String> roommates = studentRepository.findRoommatesByStudentId(studentId);
@@ -111,6 +236,7 @@ public List<String> findRoommatesByStudentId(Integer studentId) {
         if (updated <= 0) {
             throw new RuntimeException("Failed to change password");
         }
+        studentProfileCache.studentChanged(studentId);
         return updated;
     }
 
@@ -135,14 +261,32 @@ public List<String> findRoommatesByStudentId(Integer studentId) {
         if (updated <= 0) {
             throw new RuntimeException("Failed to update admission fee status");
         }
+        studentProfileCache.studentChanged(studentId);
         return updated;
     }
     
     public int assignRoom(Integer roomId, Integer studentId) {
+        Integer oldRoomId = studentRepository.findRoomIdByStudentId(studentId).orElse(null);
         int updated = studentRepository.assignRoom(roomId, studentId);
         if (updated <= 0) {
             throw new RuntimeException("Failed to assign room");
         }
+        studentProfileCache.roomChanged(studentId, oldRoomId, roomId);
+        return updated;
+    }
+
+    // Clears the student's room and gives the seat back in the same transaction.
+    public int removeFromRoom(Integer studentId) {
+        Integer oldRoomId = studentRepository.findRoomIdByStudentId(studentId).orElse(null);
+        if (oldRoomId == null) {
+            throw new RuntimeException("Student has no room to be removed from");
+        }
+        int updated = studentRepository.removeFromRoom(studentId, oldRoomId);
+        if (updated <= 0) {
+            throw new RuntimeException("Failed to remove student from room");
+        }
+        roomsService.releaseSeat(oldRoomId);
+        studentProfileCache.roomChanged(studentId, oldRoomId, null);
         return updated;
     }
     public List<Student> getAllStudents() {
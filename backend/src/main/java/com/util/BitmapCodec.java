@@ -0,0 +1,44 @@
+package com.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.BitSet;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Stores a BitSet as its little-endian bytes, deflated. Runs of zeros, e.g.
+ * the ids of students who never skip, compress to almost nothing.
+ */
+public final class BitmapCodec {
+
+    private BitmapCodec() {}
+
+    public static byte[] encode(BitSet bits) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bytes, deflater)) {
+            out.write(bits.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    // null or empty decodes to an empty set
+    public static BitSet decode(byte[] blob) {
+        if (blob == null || blob.length == 0) {
+            return new BitSet();
+        }
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(blob))) {
+            return BitSet.valueOf(in.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.hostel.management;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.security.TokenService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AdminAccessTest {
+
+	private static final String[] ADMIN_READS = {
+		"/api/students/Admin/student/table/page",
+		"/api/fees/admin/summary",
+		"/api/students/Admin/search/metrics"
+	};
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TokenService tokenService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void adminEndpointsNeedAToken() throws Exception {
+		for (String path : ADMIN_READS) {
+			mockMvc.perform(get(path)).andExpect(status().isUnauthorized());
+		}
+		mockMvc.perform(post("/api/mess/admin/forecast/refresh")).andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void studentTokenIsForbidden() throws Exception {
+		String token = tokenService.issue(1, "STUDENT");
+
+		mockMvc.perform(get("/api/fees/admin/summary").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(post("/api/students/Admin/studentProfile/removeFromRoom")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"studentId\":\"1\"}")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	void adminLoginIssuesAnAdminToken() throws Exception {
+		mockMvc.perform(post("/api/students/Admin/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"userId\":\"admin\",\"password\":\"wrong\"}"))
+				.andExpect(status().isUnauthorized());
+
+		String body = mockMvc.perform(post("/api/students/Admin/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"userId\":\"admin\",\"password\":\"test-admin\"}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.role").value("ADMIN"))
+				.andReturn().getResponse().getContentAsString();
+		JsonNode session = objectMapper.readTree(body);
+
+		mockMvc.perform(get("/api/fees/admin/summary")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + session.get("token").asText()))
+				.andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,80 @@
+package com.example.hostel.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.service.IdempotencyStore;
+
+class IdempotencyStoreTest {
+
+	private final AtomicInteger runs = new AtomicInteger();
+
+	@Test
+	void replaysTheSameBodyWhateverItsKeyOrder() {
+		IdempotencyStore store = new IdempotencyStore(600, 100, new ObjectMapper());
+		Map<String, String> first = new LinkedHashMap<>();
+		first.put("email", "a@example.com");
+		first.put("name", "Asha");
+		Map<String, String> reordered = new LinkedHashMap<>();
+		reordered.put("name", "Asha");
+		reordered.put("email", "a@example.com");
+
+		ResponseEntity<?> original = store.execute("register", "k1", first, this::created);
+		ResponseEntity<?> replay = store.execute("register", "k1", reordered, this::created);
+
+		assertEquals(1, runs.get());
+		assertEquals(original.getBody(), replay.getBody());
+		assertEquals("true", replay.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER));
+	}
+
+	@Test
+	void rejectsADifferentBodyUnderAReusedKey() {
+		IdempotencyStore store = new IdempotencyStore(600, 100, new ObjectMapper());
+
+		store.execute("register", "k1", Map.of("email", "a@example.com"), this::created);
+		ResponseEntity<?> reused = store.execute("register", "k1", Map.of("email", "b@example.com"), this::created);
+
+		assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, reused.getStatusCode());
+		assertEquals(1, runs.get());
+	}
+
+	@Test
+	void refusesNewKeysOnceFull() {
+		IdempotencyStore store = new IdempotencyStore(600, 2, new ObjectMapper());
+
+		store.execute("register", "k1", Map.of("n", "1"), this::created);
+		store.execute("register", "k2", Map.of("n", "2"), this::created);
+		ResponseEntity<?> third = store.execute("register", "k3", Map.of("n", "3"), this::created);
+		ResponseEntity<?> retry = store.execute("register", "k1", Map.of("n", "1"), this::created);
+
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE, third.getStatusCode());
+		assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+		assertEquals(2, runs.get());
+		assertEquals(2, store.size());
+	}
+
+	@Test
+	void expiredKeysMakeRoom() throws InterruptedException {
+		IdempotencyStore store = new IdempotencyStore(0, 1, new ObjectMapper());
+
+		store.execute("register", "k1", Map.of("n", "1"), this::created);
+		Thread.sleep(5);
+		ResponseEntity<?> next = store.execute("register", "k2", Map.of("n", "2"), this::created);
+
+		assertEquals(HttpStatus.CREATED, next.getStatusCode());
+		assertNull(next.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER));
+	}
+
+	private ResponseEntity<?> created() {
+		return ResponseEntity.status(HttpStatus.CREATED).body("run " + runs.incrementAndGet());
+	}
+}
@@ -0,0 +1,169 @@
+package com.example.hostel.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.dto.MessMenuEntry;
+import com.security.AdminAccount;
+import com.security.TokenService;
+import com.service.MessMenuService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MessMenuCacheTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MessMenuService messMenuService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TokenService tokenService;
+
+	private String adminToken;
+
+	@BeforeEach
+	void emptyMenu() {
+		adminToken = tokenService.issue(AdminAccount.TOKEN_SUBJECT, AdminAccount.ROLE);
+		jdbcTemplate.update("DELETE FROM MessMenu");
+		messMenuService.load();
+		messMenuService.insertMenu(new MessMenuEntry(null, "monday", "breakfast", 40.0, "Idli, Sambar"));
+		messMenuService.insertMenu(new MessMenuEntry(null, "Tuesday", "Lunch", 60.0, "Rice, Dal"));
+	}
+
+	@Test
+	void currentETagGetsNotModified() throws Exception {
+		String etag = etag("/api/mess/menu");
+
+		mockMvc.perform(get("/api/mess/menu").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, etag));
+	}
+
+	@Test
+	void currentLastModifiedGetsNotModified() throws Exception {
+		String lastModified = mockMvc.perform(get("/api/mess/menu"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+		assertNotNull(lastModified);
+
+		mockMvc.perform(get("/api/mess/menu").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void editsWithinOneSecondAdvanceLastModified() throws Exception {
+		Integer menuId = menuId("Monday", "Breakfast");
+		messMenuService.updateMenu(menuId, new MessMenuEntry(menuId, "Monday", "Breakfast", 45.0, "Dosa"));
+		String first = lastModified("/api/mess/menu/monday");
+
+		messMenuService.updateMenu(menuId, new MessMenuEntry(menuId, "Monday", "Breakfast", 50.0, "Upma"));
+
+		mockMvc.perform(get("/api/mess/menu/monday").header(HttpHeaders.IF_MODIFIED_SINCE, first))
+				.andExpect(status().isOk());
+		assertNotEquals(first, lastModified("/api/mess/menu/monday"));
+	}
+
+	@Test
+	void updateChangesOnlyTheAffectedETags() throws Exception {
+		String week = etag("/api/mess/menu");
+		String monday = etag("/api/mess/menu/monday");
+		String tuesday = etag("/api/mess/menu/tuesday");
+		Integer menuId = menuId("Monday", "Breakfast");
+
+		messMenuService.updateMenu(menuId, new MessMenuEntry(menuId, "Monday", "Breakfast", 45.0, "Dosa"));
+
+		mockMvc.perform(get("/api/mess/menu").header(HttpHeaders.IF_NONE_MATCH, week))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/mess/menu/monday").header(HttpHeaders.IF_NONE_MATCH, monday))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/mess/menu/tuesday").header(HttpHeaders.IF_NONE_MATCH, tuesday))
+				.andExpect(status().isNotModified());
+		assertNotEquals(monday, etag("/api/mess/menu/monday"));
+	}
+
+	@Test
+	void secondMenuForTheSameMealIsRejected() throws Exception {
+		mockMvc.perform(post("/api/mess/admin/menu")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"day\":\"MONDAY\",\"mealType\":\"Breakfast\",\"price\":30,\"items\":\"Poha\"}"))
+				.andExpect(status().isConflict());
+
+		assertEquals(1, rows("Monday", "Breakfast"));
+	}
+
+	@Test
+	void updateCannotMoveOntoATakenMeal() throws Exception {
+		Integer menuId = menuId("Tuesday", "Lunch");
+
+		mockMvc.perform(put("/api/mess/admin/menu/" + menuId)
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"day\":\"Monday\",\"mealType\":\"Breakfast\",\"price\":60,\"items\":\"Rice, Dal\"}"))
+				.andExpect(status().isConflict());
+
+		assertEquals(1, rows("Monday", "Breakfast"));
+		assertEquals(1, rows("Tuesday", "Lunch"));
+	}
+
+	@Test
+	void badInputAndUnknownMenuAreReported() throws Exception {
+		mockMvc.perform(post("/api/mess/admin/menu")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"day\":\"Funday\",\"mealType\":\"Lunch\",\"items\":\"Rice\"}"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(put("/api/mess/admin/menu/999999")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"day\":\"Friday\",\"mealType\":\"Dinner\",\"items\":\"Chapati\"}"))
+				.andExpect(status().isNotFound());
+	}
+
+	private String etag(String path) throws Exception {
+		String etag = mockMvc.perform(get(path))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertNotNull(etag);
+		return etag;
+	}
+
+	private String lastModified(String path) throws Exception {
+		String lastModified = mockMvc.perform(get(path))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+		assertNotNull(lastModified);
+		return lastModified;
+	}
+
+	private Integer menuId(String day, String mealType) {
+		return jdbcTemplate.queryForObject("SELECT menu_id FROM MessMenu WHERE day = ? AND meal_type = ?",
+				Integer.class, day, mealType);
+	}
+
+	private int rows(String day, String mealType) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM MessMenu WHERE day = ? AND meal_type = ?",
+				Integer.class, day, mealType);
+	}
+}
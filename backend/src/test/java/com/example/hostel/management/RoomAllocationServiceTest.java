@@ -0,0 +1,190 @@
+package com.example.hostel.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.dto.AllocationLine;
+import com.dto.AllocationPreference;
+import com.dto.AllocationResult;
+import com.repository.AllocationRepository;
+import com.repository.AllocationRepository.RoomSeats;
+import com.service.RoomAllocationService;
+
+@SpringBootTest
+class RoomAllocationServiceTest {
+
+	@Autowired
+	private RoomAllocationService roomAllocationService;
+
+	@Autowired
+	private AllocationRepository allocationRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void emptyHostel() {
+		jdbcTemplate.update("DELETE FROM Student");
+		jdbcTemplate.update("DELETE FROM Rooms");
+	}
+
+	@Test
+	void placesStudentsWithoutExceedingCapacity() {
+		Integer pair = room("A-101", 2, 0);
+		Integer triple = room("A-102", 3, 0);
+		List<Integer> students = new ArrayList<>();
+		for (int i = 1; i <= 6; i++) {
+			students.add(student("CAP" + i, "Male", null));
+		}
+
+		AllocationResult result = roomAllocationService.allocate(preferences(students), false);
+
+		assertEquals(6, result.requested());
+		assertEquals(5, result.allocated());
+		assertEquals(1, result.unallocated());
+		assertEquals(2, residents(pair));
+		assertEquals(3, residents(triple));
+		assertEquals(2, occupants(pair));
+		assertEquals(3, occupants(triple));
+		assertEquals("occupied", status(pair));
+		assertEquals("occupied", status(triple));
+		AllocationLine unplaced = result.lines().stream().filter(l -> l.roomId() == null).findFirst().orElseThrow();
+		assertNotNull(unplaced.reason());
+	}
+
+	@Test
+	void keepsEachRoomToOneGender() {
+		Integer femaleRoom = room("B-201", 3, 1);
+		student("RES1", "Female", femaleRoom);
+		Integer emptyRoom = room("B-202", 2, 0);
+		List<Integer> students = List.of(
+				student("GEN1", "Male", null),
+				student("GEN2", "Male", null),
+				student("GEN3", "Female", null),
+				student("GEN4", "Female", null));
+
+		AllocationResult result = roomAllocationService.allocate(preferences(students), false);
+
+		assertEquals(4, result.allocated());
+		assertEquals(List.of("Female"), genders(femaleRoom));
+		assertEquals(List.of("Male"), genders(emptyRoom));
+		assertEquals(3, residents(femaleRoom));
+		assertEquals(2, residents(emptyRoom));
+	}
+
+	@Test
+	void placesRequestedRoommatesTogether() {
+		Integer first = room("C-301", 2, 0);
+		Integer second = room("C-302", 2, 0);
+		Integer s1 = student("RM1", "Male", null);
+		Integer s2 = student("RM2", "Male", null);
+		Integer s3 = student("RM3", "Male", null);
+		Integer s4 = student("RM4", "Male", null);
+
+		AllocationResult result = roomAllocationService.allocate(List.of(
+				new AllocationPreference(s1, null, null, List.of("rm3")),
+				new AllocationPreference(s2, null, null, null),
+				new AllocationPreference(s3, null, null, null),
+				new AllocationPreference(s4, null, null, null)), false);
+
+		assertEquals(4, result.allocated());
+		Integer room = roomOf(s1);
+		assertEquals(room, roomOf(s3));
+		assertEquals(roomOf(s2), roomOf(s4));
+		assertTrue(room.equals(first) || room.equals(second));
+	}
+
+	@Test
+	void dryRunPlansWithoutWriting() {
+		Integer roomId = room("D-401", 2, 0);
+		Integer s1 = student("DRY1", "Female", null);
+		Integer s2 = student("DRY2", "Female", null);
+
+		AllocationResult result = roomAllocationService.allocate(preferences(List.of(s1, s2)), true);
+
+		assertTrue(result.dryRun());
+		assertEquals(2, result.allocated());
+		for (AllocationLine line : result.lines()) {
+			assertEquals(roomId, line.roomId());
+		}
+		assertNull(roomOf(s1));
+		assertNull(roomOf(s2));
+		assertEquals(0, occupants(roomId));
+		assertEquals("available", status(roomId));
+	}
+
+	@Test
+	void addOccupantsRefusesARoomHeldByAnotherGender() {
+		Integer roomId = room("E-501", 3, 1);
+		student("HELD1", "Female", roomId);
+
+		int[] counts = allocationRepository.addOccupants(List.of(new RoomSeats(roomId, 1, "Male")));
+
+		assertEquals(0, counts[0]);
+		assertEquals(1, occupants(roomId));
+	}
+
+	private Integer room(String roomNo, int capacity, int occupants) {
+		jdbcTemplate.update("""
+			INSERT INTO Rooms (room_no, room_type, floor, current_occupants, monthly_rent, status, capacity)
+			VALUES (?, 'Triple', '1', ?, 3000, 'available', ?)
+			""", roomNo, occupants, capacity);
+		return jdbcTemplate.queryForObject("SELECT room_id FROM Rooms WHERE room_no = ?", Integer.class, roomNo);
+	}
+
+	private Integer student(String collegeId, String gender, Integer roomId) {
+		jdbcTemplate.update("""
+			INSERT INTO Student (college_id, name, gender, dob, admission_date, course, stream, year, email,
+			                     contact_no, guardian_name, guardian_contact, room_id, admission_fee, password,
+			                     created_at)
+			VALUES (?, ?, ?, ?, ?, 'BTech', 'CSE', 'First', ?, '9000000000', 'Guardian', '8000000000', ?, TRUE,
+			        'secret', ?)
+			""", collegeId, "Student " + collegeId, gender, Date.valueOf(LocalDate.of(2005, 1, 1)),
+				Date.valueOf(LocalDate.now()), collegeId.toLowerCase() + "@example.com", roomId,
+				Timestamp.valueOf(LocalDateTime.now()));
+		return jdbcTemplate.queryForObject("SELECT student_id FROM Student WHERE college_id = ?", Integer.class,
+				collegeId);
+	}
+
+	private static List<AllocationPreference> preferences(List<Integer> studentIds) {
+		return studentIds.stream().map(id -> new AllocationPreference(id, null, null, null)).toList();
+	}
+
+	private Integer roomOf(Integer studentId) {
+		return jdbcTemplate.queryForObject("SELECT room_id FROM Student WHERE student_id = ?", Integer.class,
+				studentId);
+	}
+
+	private int residents(Integer roomId) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM Student WHERE room_id = ?", Integer.class, roomId);
+	}
+
+	private int occupants(Integer roomId) {
+		return jdbcTemplate.queryForObject("SELECT current_occupants FROM Rooms WHERE room_id = ?", Integer.class,
+				roomId);
+	}
+
+	private String status(Integer roomId) {
+		return jdbcTemplate.queryForObject("SELECT status FROM Rooms WHERE room_id = ?", String.class, roomId);
+	}
+
+	private List<String> genders(Integer roomId) {
+		return jdbcTemplate.queryForList("SELECT DISTINCT gender FROM Student WHERE room_id = ?", String.class,
+				roomId);
+	}
+}
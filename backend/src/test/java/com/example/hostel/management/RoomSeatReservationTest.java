@@ -0,0 +1,237 @@
+package com.example.hostel.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.dto.RoomOccupancyDrift;
+import com.dto.RoomReconciliationResult;
+import com.service.RoomAvailabilityIndex;
+import com.service.RoomsService;
+import com.service.StudentService;
+
+@SpringBootTest
+class RoomSeatReservationTest {
+
+	private static final int REQUESTS = 200;
+	private static final int CAPACITY = 7;
+
+	@Autowired
+	private RoomsService roomsService;
+
+	@Autowired
+	private StudentService studentService;
+
+	@Autowired
+	private RoomAvailabilityIndex roomAvailabilityIndex;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void concurrentReservationsNeverOverbookARoom() throws Exception {
+		jdbcTemplate.update("""
+			INSERT INTO Rooms (room_no, room_type, floor, current_occupants, monthly_rent, status, capacity)
+			VALUES ('CONTENDED', 'Triple', '1', 0, 3000, 'available', ?)
+			""", CAPACITY);
+		Integer roomId = jdbcTemplate.queryForObject(
+				"SELECT room_id FROM Rooms WHERE room_no = 'CONTENDED'", Integer.class);
+
+		ExecutorService pool = Executors.newFixedThreadPool(REQUESTS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+		try {
+			for (int i = 0; i < REQUESTS; i++) {
+				results.add(pool.submit(() -> {
+					start.await();
+					return roomsService.reserveSeat(roomId);
+				}));
+			}
+			start.countDown();
+
+			int reserved = 0;
+			for (Future<Boolean> result : results) {
+				if (result.get(60, TimeUnit.SECONDS)) {
+					reserved++;
+				}
+			}
+
+			assertEquals(CAPACITY, reserved);
+			assertEquals(CAPACITY, jdbcTemplate.queryForObject(
+					"SELECT current_occupants FROM Rooms WHERE room_id = ?", Integer.class, roomId));
+			assertEquals("occupied", jdbcTemplate.queryForObject(
+					"SELECT status FROM Rooms WHERE room_id = ?", String.class, roomId));
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void unlimitedRoomAcceptsEveryReservation() throws Exception {
+		jdbcTemplate.update("""
+			INSERT INTO Rooms (room_no, room_type, floor, current_occupants, monthly_rent, status, capacity)
+			VALUES ('UNLIMITED', 'Triple', '1', 0, 3000, 'available', 0)
+			""");
+		Integer roomId = jdbcTemplate.queryForObject(
+				"SELECT room_id FROM Rooms WHERE room_no = 'UNLIMITED'", Integer.class);
+
+		ExecutorService pool = Executors.newFixedThreadPool(20);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < REQUESTS; i++) {
+				results.add(pool.submit(() -> roomsService.reserveSeat(roomId)));
+			}
+			for (Future<Boolean> result : results) {
+				assertEquals(true, result.get(60, TimeUnit.SECONDS));
+			}
+			assertEquals(REQUESTS, jdbcTemplate.queryForObject(
+					"SELECT current_occupants FROM Rooms WHERE room_id = ?", Integer.class, roomId));
+			assertEquals("available", jdbcTemplate.queryForObject(
+					"SELECT status FROM Rooms WHERE room_id = ?", String.class, roomId));
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void removingAStudentGivesTheSeatBack() {
+		jdbcTemplate.update("""
+			INSERT INTO Rooms (room_no, room_type, floor, current_occupants, monthly_rent, status, capacity)
+			VALUES ('RELEASE', 'Double', '1', 2, 3000, 'occupied', 2)
+			""");
+		Integer roomId = jdbcTemplate.queryForObject(
+				"SELECT room_id FROM Rooms WHERE room_no = 'RELEASE'", Integer.class);
+		Integer studentId = resident("REL1", roomId);
+		resident("REL2", roomId);
+		roomAvailabilityIndex.rebuild();
+
+		studentService.removeFromRoom(studentId);
+
+		assertNull(jdbcTemplate.queryForObject(
+				"SELECT room_id FROM Student WHERE student_id = ?", Integer.class, studentId));
+		assertEquals(1, jdbcTemplate.queryForObject(
+				"SELECT current_occupants FROM Rooms WHERE room_id = ?", Integer.class, roomId));
+		assertEquals("available", jdbcTemplate.queryForObject(
+				"SELECT status FROM Rooms WHERE room_id = ?", String.class, roomId));
+		assertTrue(roomsService.findAvailableRooms(null, null, null, null).stream()
+				.anyMatch(room -> room.roomId().equals(roomId) && Integer.valueOf(1).equals(room.freeSeats())));
+
+		// a second removal finds no room and releases nothing
+		assertThrows(RuntimeException.class, () -> studentService.removeFromRoom(studentId));
+		assertEquals(1, jdbcTemplate.queryForObject(
+				"SELECT current_occupants FROM Rooms WHERE room_id = ?", Integer.class, roomId));
+	}
+
+	@Test
+	void readersAlwaysSeeARoomThatStaysAvailable() throws Exception {
+		jdbcTemplate.update("""
+			INSERT INTO Rooms (room_no, room_type, floor, current_occupants, monthly_rent, status, capacity)
+			VALUES ('STEADY', 'Dormitory', '9', 0, 1500, 'available', 500)
+			""");
+		Integer roomId = jdbcTemplate.queryForObject(
+				"SELECT room_id FROM Rooms WHERE room_no = 'STEADY'", Integer.class);
+		roomAvailabilityIndex.rebuild();
+
+		AtomicBoolean writing = new AtomicBoolean(true);
+		AtomicInteger misses = new AtomicInteger();
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> readers = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				readers.add(pool.submit(() -> {
+					while (writing.get()) {
+						if (roomAvailabilityIndex.find("9", null, null, null).stream()
+								.noneMatch(room -> room.roomId().equals(roomId))) {
+							misses.incrementAndGet();
+						}
+					}
+				}));
+			}
+			// every reservation re-reads the room and moves it to a new free-seat count
+			for (int i = 0; i < 200; i++) {
+				assertTrue(roomsService.reserveSeat(roomId));
+			}
+			writing.set(false);
+			for (Future<?> reader : readers) {
+				reader.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		assertEquals(0, misses.get());
+	}
+
+	@Test
+	void reconcileWritesAndReportsEachDriftedRoom() {
+		jdbcTemplate.update("""
+			INSERT INTO Rooms (room_no, room_type, floor, current_occupants, monthly_rent, status, capacity)
+			VALUES ('DRIFT-A', 'Double', '2', 0, 3000, 'available', 2),
+			       ('DRIFT-B', 'Double', '2', 2, 3000, 'occupied', 2)
+			""");
+		Integer full = jdbcTemplate.queryForObject(
+				"SELECT room_id FROM Rooms WHERE room_no = 'DRIFT-A'", Integer.class);
+		Integer empty = jdbcTemplate.queryForObject(
+				"SELECT room_id FROM Rooms WHERE room_no = 'DRIFT-B'", Integer.class);
+		resident("DRIFT1", full);
+		resident("DRIFT2", full);
+
+		RoomReconciliationResult result = roomsService.reconcileOccupancy();
+
+		RoomOccupancyDrift a = drift(result, full);
+		RoomOccupancyDrift b = drift(result, empty);
+		assertEquals(2, a.actualOccupants());
+		assertEquals("occupied", a.status());
+		assertEquals(0, b.actualOccupants());
+		assertEquals("available", b.status());
+		assertEquals(2, jdbcTemplate.queryForObject(
+				"SELECT current_occupants FROM Rooms WHERE room_id = ?", Integer.class, full));
+		assertEquals("occupied", jdbcTemplate.queryForObject(
+				"SELECT status FROM Rooms WHERE room_id = ?", String.class, full));
+		assertEquals(0, jdbcTemplate.queryForObject(
+				"SELECT current_occupants FROM Rooms WHERE room_id = ?", Integer.class, empty));
+		assertEquals(result.corrected().size(), result.roomsCorrected());
+
+		// nothing left to correct for these rooms
+		RoomReconciliationResult again = roomsService.reconcileOccupancy();
+		assertTrue(again.corrected().stream().noneMatch(d -> d.roomId().equals(full) || d.roomId().equals(empty)));
+	}
+
+	private static RoomOccupancyDrift drift(RoomReconciliationResult result, Integer roomId) {
+		return result.corrected().stream().filter(d -> d.roomId().equals(roomId)).findFirst().orElseThrow();
+	}
+
+	private Integer resident(String collegeId, Integer roomId) {
+		jdbcTemplate.update("""
+			INSERT INTO Student (college_id, name, gender, dob, admission_date, course, stream, year, email,
+			                     contact_no, guardian_name, guardian_contact, room_id, admission_fee, password,
+			                     created_at)
+			VALUES (?, ?, 'Male', ?, ?, 'BTech', 'CSE', 'First', ?, '9000000000', 'Guardian', '8000000000', ?, TRUE,
+			        'secret', ?)
+			""", collegeId, "Student " + collegeId, Date.valueOf(LocalDate.of(2005, 1, 1)),
+				Date.valueOf(LocalDate.now()), collegeId.toLowerCase() + "@example.com", roomId,
+				Timestamp.valueOf(LocalDateTime.now()));
+		return jdbcTemplate.queryForObject("SELECT student_id FROM Student WHERE college_id = ?", Integer.class,
+				collegeId);
+	}
+}
@@ -0,0 +1,140 @@
+package com.example.hostel.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.dto.StudentImportLine;
+import com.dto.StudentImportReport;
+import com.security.AdminAccount;
+import com.security.TokenService;
+import com.service.StudentImportService;
+import com.service.StudentSearchIndex;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class StudentImportServiceTest {
+
+	private static final String HEADER = "collegeId,name,gender,dob,course,stream,year,email,contactNo,"
+			+ "guardianName,guardianContact\n";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private StudentImportService studentImportService;
+
+	@Autowired
+	private StudentSearchIndex studentSearchIndex;
+
+	@Autowired
+	private TokenService tokenService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void emptyStudents() {
+		jdbcTemplate.update("DELETE FROM Student");
+		studentSearchIndex.rebuild();
+	}
+
+	@Test
+	void importsAFileThroughTheAdminEndpoint() throws Exception {
+		String csv = HEADER
+				+ "IMP1,Asha Nair,Female,2005-02-01,BTech,CSE,First,asha@example.com,9000000001,Guardian,8000000001\n"
+				+ "IMP2,\"Ravi, Kumar\",Male,2005-03-01,BTech,ECE,First,ravi@example.com,9000000002,Guardian,8000000002\n";
+		MockMultipartFile file = new MockMultipartFile("file", "admissions.csv", "text/csv",
+				csv.getBytes(StandardCharsets.UTF_8));
+
+		mockMvc.perform(multipart("/api/students/Admin/import").file(file)
+				.header(HttpHeaders.AUTHORIZATION,
+						"Bearer " + tokenService.issue(AdminAccount.TOKEN_SUBJECT, AdminAccount.ROLE)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.imported").value(2))
+				.andExpect(jsonPath("$.rejected").value(0));
+
+		assertEquals(2, students());
+		assertEquals("Ravi, Kumar", jdbcTemplate.queryForObject(
+				"SELECT name FROM Student WHERE college_id = 'IMP2'", String.class));
+		assertEquals(1, studentSearchIndex.search("ravi", 10).size());
+	}
+
+	@Test
+	void rejectsKnownAndRepeatedKeysIgnoringCase() throws Exception {
+		existingStudent("old1", "old@example.com");
+
+		StudentImportReport report = studentImportService.importAdmissions(new StringReader(HEADER
+				+ "NEW1,First New,Male,2005-01-01,BTech,CSE,First,OLD@example.com,9000000003,G,8000000003\n"
+				+ "OLD1,Second New,Male,2005-01-01,BTech,CSE,First,second@example.com,9000000004,G,8000000004\n"
+				+ "NEW3,Third New,Male,2005-01-01,BTech,CSE,First,third@example.com,9000000005,G,8000000005\n"
+				+ "NEW4,Fourth New,Male,2005-01-01,BTech,CSE,First,THIRD@example.com,9000000006,G,8000000006\n"));
+
+		assertEquals(1, report.imported());
+		assertEquals(3, report.rejected());
+		assertEquals(List.of("REJECTED", "REJECTED", "IMPORTED", "REJECTED"), outcomes(report));
+		assertEquals(List.of("Email already registered"), report.lines().get(0).errors());
+		assertEquals(List.of("College ID already registered"), report.lines().get(1).errors());
+		assertEquals(List.of("Email repeated in file"), report.lines().get(3).errors());
+		assertEquals(2, students());
+	}
+
+	@Test
+	void aClashMissedByTheLookupRejectsOnlyThatRow() throws Exception {
+		// H2 compares the lowercased lookup key case-sensitively, so this row passes the
+		// lookup and only the unique index on email catches it, as with a concurrent registration
+		existingStudent("OLD2", "Mixed@Example.com");
+
+		StudentImportReport report = studentImportService.importAdmissions(new StringReader(HEADER
+				+ "NEW5,Fifth New,Female,2005-01-01,BTech,CSE,First,fifth@example.com,9000000007,G,8000000007\n"
+				+ "NEW6,Sixth New,Female,2005-01-01,BTech,CSE,First,Mixed@Example.com,9000000008,G,8000000008\n"
+				+ "NEW7,Seventh New,Female,2005-01-01,BTech,CSE,First,seventh@example.com,9000000009,G,8000000009\n"));
+
+		assertEquals(List.of("IMPORTED", "REJECTED", "IMPORTED"), outcomes(report));
+		assertEquals(List.of("Email or college ID already registered"), report.lines().get(1).errors());
+		for (StudentImportLine line : List.of(report.lines().get(0), report.lines().get(2))) {
+			assertNotNull(line.studentId());
+		}
+		assertEquals(3, students());
+		assertEquals(0, (int) jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM Student WHERE college_id = 'NEW6'", Integer.class));
+	}
+
+	private void existingStudent(String collegeId, String email) {
+		jdbcTemplate.update("""
+			INSERT INTO Student (college_id, name, gender, dob, admission_date, course, stream, year, email,
+			                     contact_no, guardian_name, guardian_contact, admission_fee, password, created_at)
+			VALUES (?, 'Existing', 'Male', ?, ?, 'BTech', 'CSE', 'First', ?, '9000000000', 'Guardian',
+			        '8000000000', TRUE, 'secret', ?)
+			""", collegeId, Date.valueOf(LocalDate.of(2004, 1, 1)), Date.valueOf(LocalDate.now()), email,
+				Timestamp.valueOf(LocalDateTime.now()));
+	}
+
+	private int students() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM Student", Integer.class);
+	}
+
+	private static List<String> outcomes(StudentImportReport report) {
+		return report.lines().stream().map(StudentImportLine::outcome).toList();
+	}
+}
@@ -0,0 +1,75 @@
+package com.example.hostel.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.dto.StudentSearchHit;
+import com.service.StudentSearchIndex;
+
+@SpringBootTest
+class StudentSearchIndexTest {
+
+	@Autowired
+	private StudentSearchIndex studentSearchIndex;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void indexStudents() {
+		jdbcTemplate.update("DELETE FROM Student");
+		studentSearchIndex.rebuild();
+		studentSearchIndex.index(1, "Johnathan Mathew", "CS1001", "john.mathew@example.com", "98765 43210");
+		studentSearchIndex.index(2, "Anna Thomas", "CS1002", "anna.t@example.com", "91234 56789");
+	}
+
+	@Test
+	void findsPrefixesFirst() {
+		List<StudentSearchHit> hits = studentSearchIndex.search("john", 10);
+
+		assertEquals(List.of(1), ids(hits));
+	}
+
+	@Test
+	void findsFragmentsFromTheMiddleOfANameOrPhone() {
+		assertEquals(List.of(1), ids(studentSearchIndex.search("nath", 10)));
+		assertEquals(List.of(1), ids(studentSearchIndex.search("6543", 10)));
+		assertEquals(List.of(2), ids(studentSearchIndex.search("homa", 10)));
+	}
+
+	@Test
+	void checksTrigramCandidatesAgainstTheText() {
+		studentSearchIndex.index(3, "Tara Arat", "CS1003", "tara@example.com", null);
+
+		// tar, ara and rat are all posted for student 3, but no word contains "tarat"
+		assertTrue(studentSearchIndex.search("tarat", 10).isEmpty());
+		assertEquals(List.of(3), ids(studentSearchIndex.search("arat", 10)));
+	}
+
+	@Test
+	void prefixOutranksInfix() {
+		studentSearchIndex.index(3, "Homer Paul", "CS1003", "homer@example.com", null);
+
+		assertEquals(List.of(3, 2), ids(studentSearchIndex.search("hom", 10)));
+	}
+
+	@Test
+	void removedStudentsStopMatching() {
+		studentSearchIndex.remove(1);
+
+		assertTrue(studentSearchIndex.search("nath", 10).isEmpty());
+		assertTrue(studentSearchIndex.search("6543", 10).isEmpty());
+	}
+
+	private static List<Integer> ids(List<StudentSearchHit> hits) {
+		return hits.stream().map(StudentSearchHit::studentId).toList();
+	}
+}
@@ -3,6 +3,7 @@ import { Users, TrendingUp, AlertTriangle, CheckCircle } from 'lucide-react';
 
 // API Configuration
 const API_BASE_URL = 'http://localhost:8080/api/fees';
+const adminHeaders = () => ({ 'Authorization': `Bearer ${localStorage.getItem('adminToken')}` });
 
 // StatsCard component
 interface StatsCardProps {
@@ -157,30 +158,18 @@ const Fees: React.FC = () => {
       try {
         setLoading(true);
         
-        const [
-          collectionRes,
-          pendingFeesRes,
-          paidFeesRes,
-          pendingCountRes,
-          paidCountPercentRes,
-          pendingCountPercentRes,
-          feeInfoRes
-        ] = await Promise.all([
-          fetch(`${API_BASE_URL}/admin/collection-percent`),
-          fetch(`${API_BASE_URL}/admin/pending-fees`),
-          fetch(`${API_BASE_URL}/admin/fees/paid-fees`),
-          fetch(`${API_BASE_URL}/admin/fees/pending-count`),
-          fetch(`${API_BASE_URL}/admin/fees/graph/paid-count-percent`),
-          fetch(`${API_BASE_URL}/admin/fees/graph/pending-count-percent`),
-          fetch(`${API_BASE_URL}/admin/fees/table`)
+        const [summaryRes, feeInfoRes] = await Promise.all([
+          fetch(`${API_BASE_URL}/admin/summary`, { headers: adminHeaders() }),
+          fetch(`${API_BASE_URL}/admin/fees/table`, { headers: adminHeaders() })
         ]);
 
-        setCollectionPercent(await collectionRes.json());
-        setPendingFees(await pendingFeesRes.json());
-        setPaidFees(await paidFeesRes.json());
-        setPendingCount(await pendingCountRes.json());
-        setPaidCountPercent(await paidCountPercentRes.json());
-        setPendingCountPercent(await pendingCountPercentRes.json());
+        const summary = await summaryRes.json();
+        setCollectionPercent(summary.collectionPercent);
+        setPendingFees(summary.pendingFees);
+        setPaidFees(summary.paidFees);
+        setPendingCount(summary.pendingCount);
+        setPaidCountPercent(summary.paidCountPercent);
+        setPendingCountPercent(summary.pendingCountPercent);
         setFeeInfo(await feeInfoRes.json());
         
         setError(null);
@@ -47,17 +47,29 @@ export function AdminLogin({
     }
 
     setIsLoading(true);
+    try {
+      const response = await fetch('http://localhost:8080/api/students/Admin/login', {
+        method: 'POST',
+        headers: { 'Content-Type': 'application/json' },
+        body: JSON.stringify({ userId: loginData.userId, password: loginData.password }),
+      });
 
-    setTimeout(() => {
-      if (loginData.userId === 'admin' && loginData.password === 'admin123') {
-        toast.success('Login successful! Welcome to Admin Dashboard');
-        onLogin();
-      } else {
+      if (!response.ok) {
         setErrorMessage('Invalid credentials. Please try again.');
         toast.error('Invalid credentials. Please try again.');
+        return;
       }
+
+      // Sent as a bearer token on every admin API call
+      const session = await response.json();
+      localStorage.setItem('adminToken', session.token);
+      toast.success('Login successful! Welcome to Admin Dashboard');
+      onLogin();
+    } catch (error) {
+      setErrorMessage('Login error. Please try again later.');
+    } finally {
       setIsLoading(false);
-    }, 1500);
+    }
   };
 
 
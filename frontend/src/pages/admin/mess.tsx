@@ -58,16 +58,13 @@ const Mess = () => {
   // Fetch skipped meal counts from backend
   const fetchSkippedCounts = async () => {
     try {
-      const [breakfast, lunch, dinner] = await Promise.all([
-        fetch(`${API_BASE_URL}/countSkipped/Breakfast`).then(res => res.json()),
-        fetch(`${API_BASE_URL}/countSkipped/Lunch`).then(res => res.json()),
-        fetch(`${API_BASE_URL}/countSkipped/Dinner`).then(res => res.json())
-      ]);
+      // Today's counts for all three meals in one call: { date, breakfast, lunch, dinner }
+      const counts = await fetch(`${API_BASE_URL}/countSkipped`).then(res => res.json());
 
       setSkippedMealStats([
-        { title: 'Skipped Breakfast', value: breakfast.toString(), bgColor: '#EF4444' },
-        { title: 'Skipped Lunch', value: lunch.toString(), bgColor: '#F59E0B' },
-        { title: 'Skipped Dinner', value: dinner.toString(), bgColor: '#10B981' }
+        { title: 'Skipped Breakfast', value: counts.breakfast.toString(), bgColor: '#EF4444' },
+        { title: 'Skipped Lunch', value: counts.lunch.toString(), bgColor: '#F59E0B' },
+        { title: 'Skipped Dinner', value: counts.dinner.toString(), bgColor: '#10B981' }
       ]);
     } catch (err) {
       console.error('Error fetching skipped counts:', err);
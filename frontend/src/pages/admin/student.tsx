@@ -108,6 +108,30 @@ const formatCurrency = (amount: number): string => {
   }).format(amount);
 };
 
+const PAGE_SIZE = 25;
+
+// Table column key -> sort key accepted by Admin/student/table/page
+const SORT_KEYS: Record<string, string> = {
+  name: 'name',
+  studentId: 'studentId',
+  roomNo: 'roomNo',
+  admissionDate: 'admissionDate',
+  dueAmount: 'fee',
+  feeStatus: 'feeStatus'
+};
+
+const toStudent = (row: any): Student => ({
+  id: `ST${row.studentId}`,
+  avatar: row.name ? row.name.split(' ').map((w: string) => w[0]).join('').toUpperCase() : '',
+  name: row.name,
+  studentId: `ST${row.studentId}`,
+  roomNo: row.roomNo ?? '',
+  block: '',
+  admissionDate: row.admissionDate,
+  feeStatus: row.feeStatus ? row.feeStatus.toLowerCase() : 'pending',
+  dueAmount: row.fee ?? 0
+});
+
 const Student: React.FC = () => {
   const [studentsData, setStudentsData] = useState<Student[]>([]);
   const [searchTerm, setSearchTerm] = useState('');
@@ -117,70 +141,72 @@ const Student: React.FC = () => {
   const [selectedStudent, setSelectedStudent] = useState<Student | null>(null);
   const [notification, setNotification] = useState<{ type: 'success' | 'error' | 'info'; message: string } | null>(null);
 
-  // Fetch student data from backend when component mounts
+  const [page, setPage] = useState(0);
+  const [totalElements, setTotalElements] = useState(0);
+  const [totalPages, setTotalPages] = useState(0);
+  const [loading, setLoading] = useState(false);
+
+  // Load one server-side page; sorting and filters are applied by the backend
   React.useEffect(() => {
-    fetch('http://localhost:8080/api/students/Admin/student/table')
+    const controller = new AbortController();
+    const params = new URLSearchParams({
+      page: String(page),
+      size: String(PAGE_SIZE),
+      sort: SORT_KEYS[sortConfig?.column ?? ''] ?? 'studentId',
+      direction: sortConfig?.direction ?? 'asc'
+    });
+    if (selectedStatus) params.set('feeStatus', selectedStatus);
+    if (selectedBlock) params.set('roomNo', selectedBlock);
+
+    setLoading(true);
+    fetch(`http://localhost:8080/api/students/Admin/student/table/page?${params}`, {
+      signal: controller.signal,
+      headers: { 'Authorization': `Bearer ${localStorage.getItem('adminToken')}` }
+    })
       .then(res => {
         if (!res.ok) throw new Error('Failed to load student data');
         return res.json();
       })
       .then(data => {
-        // Map from array of objects with property keys
-        const mappedData = data.map((row: any) => ({
-          id: `ST${row.studentId}`,
-          avatar: row.name ? row.name.split(' ').map((w: string) => w[0]).join('').toUpperCase() : '',
-          name: row.name,
-          studentId: `ST${row.studentId}`,
-          roomNo: row.roomNo,
-          admissionDate: row.admissionDate,
-          feeStatus: row.feeStatus || 'pending',
-          dueAmount: row.fee ?? 0
-        }));
-        setStudentsData(mappedData);
+        setStudentsData(data.rows.map(toStudent));
+        setTotalElements(data.totalElements);
+        setTotalPages(data.totalPages);
       })
       .catch(err => {
+        if (err.name === 'AbortError') return;
         setNotification({ type: 'error', message: 'Failed to load student data.' });
+      })
+      .finally(() => {
+        if (!controller.signal.aborted) setLoading(false);
       });
-  }, []);
+    return () => controller.abort();
+  }, [page, sortConfig, selectedStatus, selectedBlock]);
 
-  // Get unique blocks for filter dropdown
-  const blocks = useMemo(() => Array.from(new Set(studentsData.map(student => student.block))), [studentsData]);
+  // Rooms seen so far, for the room filter dropdown
+  const [knownRooms, setKnownRooms] = useState<string[]>([]);
+  React.useEffect(() => {
+    setKnownRooms(prev => {
+      const rooms = new Set(prev);
+      studentsData.forEach(student => student.roomNo && rooms.add(student.roomNo));
+      return rooms.size === prev.length ? prev : Array.from(rooms).sort();
+    });
+  }, [studentsData]);
 
+  // The search box narrows the loaded page only; filters and sorting go to the server
   const filteredStudents = useMemo(() => {
-    let filtered = studentsData;
-    if (searchTerm) {
-      filtered = filtered.filter(student =>
-        student.name.toLowerCase().includes(searchTerm.toLowerCase()) ||
-        student.studentId.toLowerCase().includes(searchTerm.toLowerCase()) ||
-        student.roomNo.toLowerCase().includes(searchTerm.toLowerCase())
-      );
-    }
-    if (selectedBlock) {
-      filtered = filtered.filter(student => student.block === selectedBlock);
-    }
-    if (selectedStatus) {
-      filtered = filtered.filter(student => student.feeStatus === selectedStatus);
-    }
-    if (sortConfig) {
-      filtered.sort((a, b) => {
-        const aValue = a[sortConfig.column as keyof Student];
-        const bValue = b[sortConfig.column as keyof Student];
-        if (aValue === undefined && bValue === undefined) return 0;
-        if (aValue === undefined) return sortConfig.direction === 'asc' ? 1 : -1;
-        if (bValue === undefined) return sortConfig.direction === 'asc' ? -1 : 1;
-        if (aValue < bValue) {
-          return sortConfig.direction === 'asc' ? -1 : 1;
-        }
-        if (aValue > bValue) {
-          return sortConfig.direction === 'asc' ? 1 : -1;
-        }
-        return 0;
-      });
-    }
-    return filtered;
-  }, [searchTerm, selectedBlock, selectedStatus, sortConfig, studentsData]);
+    if (!searchTerm) return studentsData;
+    const term = searchTerm.toLowerCase();
+    return studentsData.filter(student =>
+      (student.name ?? '').toLowerCase().includes(term) ||
+      student.studentId.toLowerCase().includes(term) ||
+      (student.roomNo ?? '').toLowerCase().includes(term)
+    );
+  }, [searchTerm, studentsData]);
 
-  const handleSort = (column: string, direction: 'asc' | 'desc') => setSortConfig({ column, direction });
+  const handleSort = (column: string, direction: 'asc' | 'desc') => {
+    setSortConfig({ column, direction });
+    setPage(0);
+  };
 
   const handleStudentClick = (student: Student) => setSelectedStudent(student);
 
@@ -282,12 +308,12 @@ const Student: React.FC = () => {
           <div className="relative">
             <select
               value={selectedBlock}
-              onChange={e => setSelectedBlock(e.target.value)}
+              onChange={e => { setSelectedBlock(e.target.value); setPage(0); }}
               className="appearance-none bg-white border border-gray-300 rounded-lg px-3 py-2 pr-8 text-sm focus:outline-none focus:ring-2 focus:ring-blue-500 focus:border-blue-500"
             >
               <option value="">Select Room</option>
-              {blocks.map(block => (
-                <option key={block} value={block}>{block}</option>
+              {knownRooms.map(room => (
+                <option key={room} value={room}>{room}</option>
               ))}
             </select>
             <ChevronDown className="absolute right-2 top-1/2 transform -translate-y-1/2 w-4 h-4 text-gray-400 pointer-events-none" />
@@ -295,7 +321,7 @@ const Student: React.FC = () => {
           <div className="relative">
             <select
               value={selectedStatus}
-              onChange={e => setSelectedStatus(e.target.value)}
+              onChange={e => { setSelectedStatus(e.target.value); setPage(0); }}
               className="appearance-none bg-white border border-gray-300 rounded-lg px-3 py-2 pr-8 text-sm focus:outline-none focus:ring-2 focus:ring-blue-500 focus:border-blue-500"
             >
               <option value="">Select Fee Status</option>
@@ -307,16 +333,36 @@ const Student: React.FC = () => {
         </div>
       </div>
       <div className="text-sm text-gray-600">
-        Showing {filteredStudents.length} of {studentsData.length} students
+        Showing {filteredStudents.length} of {totalElements} students
       </div>
       <Table
         data={filteredStudents}
         columns={columns}
+        loading={loading}
         selectable={false}
         onSort={handleSort}
         hoverable={true}
         emptyMessage="No students found"
       />
+      <div className="flex items-center justify-between text-sm text-gray-600">
+        <span>Page {totalPages === 0 ? 0 : page + 1} of {totalPages}</span>
+        <div className="space-x-2">
+          <button
+            onClick={() => setPage(p => Math.max(p - 1, 0))}
+            disabled={page === 0 || loading}
+            className="px-3 py-1 border border-gray-300 rounded-lg disabled:opacity-50"
+          >
+            Previous
+          </button>
+          <button
+            onClick={() => setPage(p => p + 1)}
+            disabled={page + 1 >= totalPages || loading}
+            className="px-3 py-1 border border-gray-300 rounded-lg disabled:opacity-50"
+          >
+            Next
+          </button>
+        </div>
+      </div>
     </div>
   );
 };
@@ -25,8 +25,10 @@ export const Login: React.FC<LoginProps> = ({ onLogin, onPageChange }) => {
 
   setIsLoading(true);
   try {
-    const response = await fetch(`http://localhost:8080/api/students/login?email=${encodeURIComponent(loginData.userId)}&password=${encodeURIComponent(loginData.password)}`, {
-      method: 'GET',
+    const response = await fetch('http://localhost:8080/api/students/login', {
+      method: 'POST',
+      headers: { 'Content-Type': 'application/json' },
+      body: JSON.stringify({ email: loginData.userId, password: loginData.password }),
     });
 
     if (!response.ok) {
@@ -35,6 +37,10 @@ export const Login: React.FC<LoginProps> = ({ onLogin, onPageChange }) => {
       return;
     }
 
+    const session = await response.json();
+    localStorage.setItem('authToken', session.token);
+    localStorage.setItem('studentId', session.studentId.toString());
+
     toast.success('Login successful! Redirecting...');
     setTimeout(() => {
       setIsLoading(false);
@@ -1,4 +1,4 @@
-import { useState } from 'react';
+import React, { useState } from 'react';
 import { Card, CardHeader, CardTitle, CardContent } from '../../components/student/card';
 import { Clock, Utensils, Scissors, Plus, CalendarX } from 'lucide-react';
 import { Button } from '../../components/student/button';
@@ -7,10 +7,12 @@ import { Dialog, DialogContent, DialogHeader, DialogTitle, DialogTrigger } from
 import { Input } from '../../components/student/input';
 import { Textarea } from '../../components/student/textarea';
 import { Label } from '../../components/student/label';
+import { toast } from 'sonner';
 
 export function StudentMess() {
   const [messCut, setMessCut] = useState({ startDate: '', endDate: '', reason: '' });
   const [isDialogOpen, setIsDialogOpen] = useState(false);
+  const [isSubmitting, setIsSubmitting] = useState(false);
 
   const messTimings = {
     breakfast: '7:30 AM - 9:00 AM',
@@ -23,6 +25,37 @@ export function StudentMess() {
     return Math.ceil((new Date(end).getTime() - new Date(start).getTime()) / (1000 * 3600 * 24)) + 1;
   };
 
+  // Skips all three meals for every day of the range in one request
+  const submitMessCut = async (e: React.FormEvent) => {
+    e.preventDefault();
+    setIsSubmitting(true);
+    try {
+      const response = await fetch('http://localhost:8080/api/mess/skips', {
+        method: 'POST',
+        headers: {
+          'Content-Type': 'application/json',
+          'Authorization': `Bearer ${localStorage.getItem('authToken')}`
+        },
+        body: JSON.stringify({
+          from: messCut.startDate,
+          to: messCut.endDate,
+          mealTypes: ['Breakfast', 'Lunch', 'Dinner'],
+          skipped: true
+        })
+      });
+      if (!response.ok) {
+        throw new Error((await response.text()) || 'Mess cut request failed');
+      }
+      toast.success('Mess cut recorded');
+      setMessCut({ startDate: '', endDate: '', reason: '' });
+      setIsDialogOpen(false);
+    } catch (error) {
+      toast.error(error instanceof Error ? error.message : 'Mess cut request failed');
+    } finally {
+      setIsSubmitting(false);
+    }
+  };
+
   return (
     <div className="space-y-6">
 
@@ -123,7 +156,7 @@ export function StudentMess() {
                   </p>
                 </DialogHeader>
 
-                <form className="space-y-4 mt-4">
+                <form className="space-y-4 mt-4" onSubmit={submitMessCut}>
                   <div className="grid grid-cols-2 gap-4">
                     <div className="space-y-2">
                       <Label htmlFor="startDate" className="text-gray-700">Start Date</Label>
@@ -162,7 +195,7 @@ export function StudentMess() {
                   <Button
                     type="submit"
                     className="w-full bg-blue-500 hover:bg-blue-600 rounded-lg shadow-sm transition-colors"
-                    disabled={!messCut.startDate || !messCut.endDate || calculateDaysBetween(messCut.startDate, messCut.endDate) < 3}
+                    disabled={isSubmitting || !messCut.startDate || !messCut.endDate || calculateDaysBetween(messCut.startDate, messCut.endDate) < 3}
                   >
                     <CalendarX className="w-4 h-4 mr-2" />
                     Submit Mess Cut Request
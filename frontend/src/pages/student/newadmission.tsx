@@ -22,6 +22,8 @@ export const NewAdmission: React.FC<NewAdmissionProps> = ({ onPageChange, setStu
 
   const [errors, setErrors] = useState<{ [key: string]: string }>({});
   const [isSubmitting, setIsSubmitting] = useState(false);
+  // Sent with every attempt of this submission so a retried or double-clicked submit registers once
+  const [idempotencyKey] = useState(() => crypto.randomUUID());
 
   // ===== Validation Functions =====
   const validateName = (name: string): string => {
@@ -141,7 +143,7 @@ export const NewAdmission: React.FC<NewAdmissionProps> = ({ onPageChange, setStu
 
       const response = await fetch('http://localhost:8080/api/students/register/form', {
         method: 'POST',
-        headers: { 'Content-Type': 'application/json' },
+        headers: { 'Content-Type': 'application/json', 'Idempotency-Key': idempotencyKey },
         body: JSON.stringify(requestBody)
       });
 
@@ -1,5 +1,5 @@
 // src/pages/student/AdmissionContinuation.tsx
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import { Button } from '../../components/student/button';
 import { Input } from '../../components/student/input';
 import { Label } from '../../components/student/label';
@@ -40,6 +40,8 @@ export const AdmissionContinuation: React.FC<AdmissionContinuationProps> = ({ on
   const [currentStep, setCurrentStep] = useState<number>(2);
   const [paymentData, setPaymentData] = useState<PaymentData>({ method: '', amount: 5000 });
   const [selectedRoom, setSelectedRoom] = useState<RoomData | null>(null);
+  // Read by the room event handler, which is registered once per step
+  const selectedRoomRef = useRef<RoomData | null>(null);
   const [roomFilter, setRoomFilter] = useState<string>('all');
   const [availableRooms, setAvailableRooms] = useState<RoomData[]>([]);
   const [isLoadingRooms, setIsLoadingRooms] = useState<boolean>(false);
@@ -65,11 +67,33 @@ export const AdmissionContinuation: React.FC<AdmissionContinuationProps> = ({ on
     }
   }, [propStudentId]);
 
-  // Fetch available rooms when reaching room selection step
   useEffect(() => {
-    if (currentStep === 3) {
-      fetchAvailableRooms();
+    selectedRoomRef.current = selectedRoom;
+  }, [selectedRoom]);
+
+  // Fetch available rooms when reaching room selection step, then keep the list
+  // current from the room event stream (subscribed first so no change is missed)
+  useEffect(() => {
+    if (currentStep !== 3) {
+      return;
     }
+    let connected = false;
+    const events = new EventSource('http://localhost:8080/api/rooms/events');
+    events.onopen = () => {
+      // after a reconnect, changes made while disconnected are unknown
+      if (connected) {
+        fetchAvailableRooms();
+      }
+      connected = true;
+    };
+    events.addEventListener('rooms', (event) => {
+      applyRoomDeltas(JSON.parse((event as MessageEvent).data));
+    });
+    events.addEventListener('resync', () => {
+      fetchAvailableRooms();
+    });
+    fetchAvailableRooms();
+    return () => events.close();
   }, [currentStep]);
 
   const fetchAvailableRooms = async (): Promise<void> => {
@@ -87,18 +111,9 @@ export const AdmissionContinuation: React.FC<AdmissionContinuationProps> = ({ on
       const data = await response.json();
       console.log('Fetched rooms raw data:', data);
       
-      // Transform array of arrays to array of objects
-      // Backend returns: [room_id, room_No, room_type, floor, monthly_rent, current_occupants]
-      const transformedRooms: RoomData[] = data.map((room: any[]) => ({
-        roomId: room[0],
-        roomNo: room[1],
-        type: room[2],
-        floor: room[3],
-        monthlyRent: room[4],
-        currentOccupancy: room[5],
-        maxOccupancy: getMaxOccupancyFromType(room[2]),
-        occupants: []
-      }));
+      // Backend returns rooms with at least one free seat:
+      // { roomId, roomNo, roomType, floor, monthlyRent, currentOccupants, capacity, freeSeats }
+      const transformedRooms: RoomData[] = data.map(toRoomData);
       
       console.log('Transformed rooms:', transformedRooms);
       setAvailableRooms(transformedRooms);
@@ -111,6 +126,42 @@ export const AdmissionContinuation: React.FC<AdmissionContinuationProps> = ({ on
     }
   };
 
+  // Maps a RoomAvailability from the API to the card model
+  const toRoomData = (room: any): RoomData => ({
+    roomId: room.roomId,
+    roomNo: room.roomNo,
+    type: room.roomType,
+    floor: room.floor,
+    monthlyRent: room.monthlyRent,
+    currentOccupancy: room.currentOccupants,
+    maxOccupancy: room.capacity > 0 ? room.capacity : getMaxOccupancyFromType(room.roomType),
+    occupants: []
+  });
+
+  // Each delta is { roomId, available, room }; a room stays listed while it is
+  // available with a free seat (freeSeats is null for rooms without a limit).
+  const applyRoomDeltas = (deltas: any[]): void => {
+    const isListed = (delta: any): boolean =>
+      delta.available && delta.room && (delta.room.freeSeats === null || delta.room.freeSeats > 0);
+    const gone = new Set<number>(deltas.filter(delta => !isListed(delta)).map(delta => delta.roomId));
+    setAvailableRooms(prev => {
+      const byId = new Map(prev.map(room => [room.roomId, room]));
+      for (const delta of deltas) {
+        if (isListed(delta)) {
+          byId.set(delta.roomId, toRoomData(delta.room));
+        } else {
+          byId.delete(delta.roomId);
+        }
+      }
+      return Array.from(byId.values()).sort((a, b) => (a.roomId ?? 0) - (b.roomId ?? 0));
+    });
+    const selected = selectedRoomRef.current;
+    if (selected?.roomId !== undefined && gone.has(selected.roomId)) {
+      toast.error(`Room ${selected.roomNo} was just taken. Please choose another room.`);
+      setSelectedRoom(prev => (prev?.roomId === selected.roomId ? null : prev));
+    }
+  };
+
   // Helper function to determine max occupancy from room type
   const getMaxOccupancyFromType = (type: string): number => {
     if (type.includes('Single')) return 1;
@@ -53,7 +53,7 @@ const AppRoutes: React.FC = () => {
   // ----------------------
   const handleAdminLogin = () => setIsAdminAuthenticated(true);
   const handleStudentLogin = () => setIsStudentAuthenticated(true);
-  const handleAdminLogout = () => { setIsAdminAuthenticated(false); navigate('/'); };
+  const handleAdminLogout = () => { localStorage.removeItem('adminToken'); setIsAdminAuthenticated(false); navigate('/'); };
   const handleStudentLogout = () => { setIsStudentAuthenticated(false); navigate('/student/login'); };
   const handlePageChange = (target: 'admin' | 'student') => {
     if (target === 'admin') navigate('/login');